@@ -2,7 +2,10 @@ package com.savit.budget.mapper;
 
 import com.savit.budget.domain.CategoryVO;
 
+import java.util.List;
+
 public interface CategoryMapper {
     CategoryVO findById(Long categoryId);
     CategoryVO findByName(String name);
+    List<CategoryVO> findAll();
 }
@@ -5,11 +5,13 @@ import com.savit.card.service.CardApprovalService;
 import com.savit.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.text.NumberFormat;
 import java.util.Locale;
+import java.util.concurrent.Executor;
 
 /**
  * 내부 메서드 호출 방식 - 예산 모니터링 서비스
@@ -22,6 +24,10 @@ public class BudgetMonitoringService {
     
     private final CardApprovalService cardApprovalService;
     private final NotificationService notificationService;
+
+    // 알림 발송은 FCM 전용 스레드 풀에서 (카드 동기화 스레드가 FCM 응답을 기다리지 않도록)
+    @Qualifier("fcmExecutor")
+    private final Executor fcmExecutor;
     
     /**
      * 내부 메서드 호출 방식 - 예산 체크 및 알림 발송
@@ -49,8 +55,9 @@ public class BudgetMonitoringService {
                 String exceededAmountStr = formatter.format(exceededAmount) + "원";
                 String totalBudgetStr = formatter.format(data.getTotalBudget()) + "원";
                 
-                notificationService.sendBudgetExceededNotification(userId, exceededAmountStr, totalBudgetStr);
-                log.info("예산 초과 알림 발송 완료 - 사용자: {}, 초과금액: {}", userId, exceededAmountStr);
+                fcmExecutor.execute(() ->
+                        notificationService.sendBudgetExceededNotification(userId, exceededAmountStr, totalBudgetStr));
+                log.info("예산 초과 알림 발송 요청 - 사용자: {}, 초과금액: {}", userId, exceededAmountStr);
             }
             // 2. 예산 80% 이상 사용 시 경고 알림 (예산 초과가 아닌 경우에만)
             else if (data.isWarningLevel()) {
@@ -58,13 +65,13 @@ public class BudgetMonitoringService {
                 BigDecimal remainingAmount = data.getTotalBudget().subtract(data.getThisMonthUsage());
                 String remainingAmountStr = formatter.format(remainingAmount) + "원";
                 
-                notificationService.sendCategoryBudgetWarning(
+                fcmExecutor.execute(() -> notificationService.sendCategoryBudgetWarning(
                     userId, 
                     "전체", 
                     usagePercent.intValue(), 
                     remainingAmountStr
-                );
-                log.info("예산 경고 알림 발송 완료 - 사용자: {}, 사용률: {}%", userId, usagePercent.intValue());
+                ));
+                log.info("예산 경고 알림 발송 요청 - 사용자: {}, 사용률: {}%", userId, usagePercent.intValue());
             }
             
             log.info("예산 모니터링 완료 - 사용자: {}, 예산여부: {}, 초과여부: {}, 경고여부: {}", 
@@ -3,6 +3,7 @@ package com.savit.budget.service;
 import com.savit.budget.domain.BudgetVO;
 import com.savit.budget.dto.BudgetDTO;
 import com.savit.budget.mapper.BudgetMapper;
+import com.savit.card.service.DashboardCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,6 +20,7 @@ import java.time.format.DateTimeFormatter;
 public class BudgetServiceImpl implements BudgetService{
 
     private final BudgetMapper budgetMapper;
+    private final DashboardCache dashboardCache;
 
     @Override
     public void createBudget(BudgetDTO dto, Long userId) {
@@ -31,6 +33,7 @@ public class BudgetServiceImpl implements BudgetService{
                 .build();
 
         budgetMapper.insertBudget(vo);
+        dashboardCache.invalidate(userId);
     }
 
     @Override
@@ -40,7 +43,9 @@ public class BudgetServiceImpl implements BudgetService{
                 .userId(userId)
                 .month(currentMonth)
                 .totalBudget(budgetDTO.getTotalBudget()).build();
-       return budgetMapper.updateBudget(vo);
+        int updated = budgetMapper.updateBudget(vo);
+        dashboardCache.invalidate(userId);
+        return updated;
     }
 
     @Override
@@ -0,0 +1,116 @@
+package com.savit.budget.service;
+
+import com.savit.budget.domain.CategoryVO;
+import com.savit.budget.mapper.CategoryMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Category 테이블 메모리 캐시
+ * 카테고리는 수십 건이고 거의 바뀌지 않으므로 시작 시 전부 읽어서 id/이름 인덱스를 만들어 두고,
+ * 분류/챌린지 조회 같은 자주 호출되는 경로에서는 DB 커넥션을 쓰지 않음
+ * - 주기적으로 전체를 다시 읽어 통째로 교체 (volatile 참조 교체)
+ * - 캐시에 없는 값을 찾으면 새로 추가된 카테고리일 수 있으므로 최소 간격을 두고 한 번 다시 읽음
+ * 반환하는 CategoryVO 는 캐시가 공유하는 객체이므로 읽기 전용으로만 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryCache {
+
+    private final CategoryMapper categoryMapper;
+
+    // 캐시 미스로 다시 읽을 때의 최소 간격 (ms)
+    @Value("${category.cache.miss-refresh-millis:30000}")
+    private long missRefreshMillis;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile long lastRefreshedAt;
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    public CategoryVO findById(Long categoryId) {
+        if (categoryId == null) {
+            return null;
+        }
+        CategoryVO category = snapshot.byId.get(categoryId);
+        if (category == null && refreshOnMiss()) {
+            category = snapshot.byId.get(categoryId);
+        }
+        return category;
+    }
+
+    public CategoryVO findByName(String name) {
+        if (name == null) {
+            return null;
+        }
+        CategoryVO category = snapshot.byName.get(name);
+        if (category == null && refreshOnMiss()) {
+            category = snapshot.byName.get(name);
+        }
+        return category;
+    }
+
+    public Collection<CategoryVO> findAll() {
+        return snapshot.byId.values();
+    }
+
+    /**
+     * 전체 카테고리를 다시 읽어 인덱스 교체 (카테고리 추가/변경 후 호출)
+     * 읽기에 실패하면 기존 인덱스를 유지
+     */
+    @Scheduled(fixedDelayString = "${category.cache.refresh-millis:3600000}",
+               initialDelayString = "${category.cache.refresh-millis:3600000}")
+    public void refresh() {
+        try {
+            List<CategoryVO> categories = categoryMapper.findAll();
+            Map<Long, CategoryVO> byId = new HashMap<>();
+            Map<String, CategoryVO> byName = new HashMap<>();
+            for (CategoryVO category : categories) {
+                byId.put(category.getId(), category);
+                byName.put(category.getName(), category);
+            }
+            snapshot = new Snapshot(Collections.unmodifiableMap(byId), Collections.unmodifiableMap(byName));
+            log.info("카테고리 캐시 갱신 완료: {}건", byId.size());
+        } catch (Exception e) {
+            log.error("카테고리 캐시 갱신 실패 - 기존 캐시 유지 ({}건)", snapshot.byId.size(), e);
+        } finally {
+            lastRefreshedAt = System.currentTimeMillis();
+        }
+    }
+
+    // 마지막 갱신 후 최소 간격이 지났을 때만 다시 읽음 (없는 값 반복 조회로 DB를 두드리지 않도록)
+    private synchronized boolean refreshOnMiss() {
+        if (System.currentTimeMillis() - lastRefreshedAt < missRefreshMillis) {
+            return false;
+        }
+        refresh();
+        return true;
+    }
+
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(Collections.emptyMap(), Collections.emptyMap());
+
+        private final Map<Long, CategoryVO> byId;
+        private final Map<String, CategoryVO> byName;
+
+        private Snapshot(Map<Long, CategoryVO> byId, Map<String, CategoryVO> byName) {
+            this.byId = byId;
+            this.byName = byName;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.savit.card.controller;
 
+import com.savit.card.domain.ApprovalSyncMode;
 import com.savit.card.domain.CardApproval;
 import com.savit.card.dto.DashboardDTO;
+import com.savit.card.dto.MonthlyUsageTrendDTO;
+import com.savit.card.dto.OnDemandSyncResult;
 import com.savit.card.service.CardApprovalService;
+import com.savit.card.service.OnDemandCardSyncService;
 import com.savit.security.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.servlet.http.HttpServletRequest;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -19,23 +24,32 @@ import java.util.Map;
 @Slf4j
 public class CardApprovalController {
 
+    // 동기화 결과 출처 (SYNCED: 이번 요청이 동기화, COALESCED: 진행 중인 동기화에 합류, CACHED: 직전 결과 재사용)
+    private static final String SYNC_SOURCE_HEADER = "X-Sync-Source";
+
     private final CardApprovalService cardApprovalService;
+    private final OnDemandCardSyncService onDemandCardSyncService;
     private final JwtUtil jwtUtil;
 
     /**
      * 특정 카드의 승인 내역을 조회하고 DB에 저장하는 API
      * @param cardId 카드 ID (PK)
+     * @param fullSync true 이면 워터마크를 무시하고 이전달 1일부터 전체 재조회
      * @param request HttpServletRequest
-     * @return 저장된 승인 내역 리스트
+     * @return 저장된 승인 내역 리스트 (동시 요청/직전 동기화 재사용 여부는 X-Sync-Source 헤더)
      */
     @PostMapping("/{cardId}/approvals")
     public ResponseEntity<?> getCardApprovals(
             @PathVariable Long cardId,
+            @RequestParam(defaultValue = "false") boolean fullSync,
             HttpServletRequest request) {
         try {
             Long userId = jwtUtil.getUserIdFromToken(request);
-            List<CardApproval> approvals = cardApprovalService.fetchAndSaveApprovals(userId, cardId);
-            return ResponseEntity.ok(approvals);
+            OnDemandSyncResult<List<CardApproval>> result =
+                    onDemandCardSyncService.syncCard(userId, cardId, toSyncMode(fullSync));
+            return ResponseEntity.ok()
+                    .header(SYNC_SOURCE_HEADER, result.getSource().name())
+                    .body(result.getData());
         } catch (Exception e) {
             return ResponseEntity.status(500)
                     .body(Map.of("error", e.getMessage()));
@@ -72,16 +86,46 @@ public class CardApprovalController {
         }
     }
 
+    // 월별 사용금액 추이 (이번 달 포함 최근 months 개월, 최대 36개월)
+    // 풀 url = /api/cards/dashboard/trend?months=12
+    @GetMapping("/dashboard/trend")
+    public ResponseEntity<?> getMonthlyUsageTrend(
+            @RequestParam(defaultValue = "12") int months,
+            HttpServletRequest request) {
+        try {
+            Long userId = jwtUtil.getUserIdFromToken(request);
+            List<MonthlyUsageTrendDTO> trend = cardApprovalService.getMonthlyUsageTrend(userId, months);
+            return ResponseEntity.ok(trend);
+        } catch (Exception e) {
+            log.error("월별 사용금액 추이 조회 실패: ", e);
+            return ResponseEntity.status(500)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
     /**
+     * @param fullSync true 이면 워터마크를 무시하고 이전달 1일부터 전체 재조회
      * @param request
      * @return 사용자 보유카드 전체 승인내역 한번에 조회(DB에 중복 제외 업데이트 가능)
+     *         동시 요청은 하나의 동기화로 합쳐지고, 직전 동기화 결과 재사용 여부는 syncSource / X-Sync-Source 헤더로 전달
      */
     @PostMapping("/approvals/all")
-    public ResponseEntity<?> getAllCardApprovals(HttpServletRequest request) {
+    public ResponseEntity<?> getAllCardApprovals(
+            @RequestParam(defaultValue = "false") boolean fullSync,
+            HttpServletRequest request) {
         try {
             Long userId = jwtUtil.getUserIdFromToken(request);
-            cardApprovalService.fetchAndSaveAllCards(userId);
-            return ResponseEntity.ok(Map.of("message", "전체 카드 승인내역을 성공적으로 저장했습니다."));
+            OnDemandSyncResult<Map<Long, List<CardApproval>>> result =
+                    onDemandCardSyncService.syncAllCards(userId, toSyncMode(fullSync));
+
+            Map<String, Object> body = new HashMap<>();
+            body.put("message", "전체 카드 승인내역을 성공적으로 저장했습니다.");
+            body.put("syncSource", result.getSource());
+            body.put("syncedAt", result.getSyncedAt());
+            body.put("newApprovalCount", result.getData().values().stream().mapToInt(List::size).sum());
+            return ResponseEntity.ok()
+                    .header(SYNC_SOURCE_HEADER, result.getSource().name())
+                    .body(body);
         } catch (Exception e) {
             log.error("전체 승인내역 조회 실패", e);
             return ResponseEntity.status(500)
@@ -89,4 +133,8 @@ public class CardApprovalController {
         }
     }
 
+    private ApprovalSyncMode toSyncMode(boolean fullSync) {
+        return fullSync ? ApprovalSyncMode.FULL : ApprovalSyncMode.INCREMENTAL;
+    }
+
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.savit.card.controller;
 
 import com.savit.card.dto.CardDetailResponseDTO;
 import com.savit.card.dto.CardRegisterRequestDTO;
+import com.savit.card.dto.CodefCardDTO;
 import com.savit.card.service.CardService;
 import com.savit.security.JwtUtil;
 import com.savit.user.domain.User;
@@ -39,7 +40,7 @@ public class CardController {
             String connectedId =
                     cardService.registerAccount(req);
 
-            List<Map<String,Object>> cards =
+            List<CodefCardDTO> cards =
                     cardService.fetchCardList(
                             connectedId,
                             req.getOrganization(),
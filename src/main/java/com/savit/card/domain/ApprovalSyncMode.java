@@ -0,0 +1,13 @@
+package com.savit.card.domain;
+
+/**
+ * 카드 승인내역 조회 범위
+ */
+public enum ApprovalSyncMode {
+
+    /** 워터마크 이후 변경분만 조회 (겹침 구간 포함) */
+    INCREMENTAL,
+
+    /** 이전달 1일부터 오늘까지 전체 재조회 */
+    FULL
+}
@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class CardApproval {
     // 기본 ID
     private Long id;                        // AUTO_INCREMENT PRIMARY KEY
@@ -31,6 +31,9 @@ public class CardApproval {
     private String resMemberStoreName;      // 가맹점명 : ex "스타벅스강남점"
     private String resMemberStoreType;      // 업종명 : ex "카페"
 
+    // 중복 판별 키 (카드번호/일자/시간/금액/가맹점명 SHA-256, card_id 와 함께 유니크)
+    private String approvalKey;
+
     // 메타데이터
     private LocalDateTime createdAt;        // 생성일시
     private LocalDateTime updatedAt;        // 수정 일시
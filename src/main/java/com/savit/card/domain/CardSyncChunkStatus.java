@@ -0,0 +1,16 @@
+package com.savit.card.domain;
+
+/**
+ * 동기화 실행을 나눈 작업 묶음(chunk) 상태
+ */
+public enum CardSyncChunkStatus {
+
+    /** 아무 서버도 가져가지 않음 */
+    PENDING,
+
+    /** 한 서버가 임대(lease) 중 - 임대 시간이 지나면 다른 서버가 가져갈 수 있음 */
+    CLAIMED,
+
+    /** 묶음 안의 모든 사용자 처리 완료 */
+    DONE
+}
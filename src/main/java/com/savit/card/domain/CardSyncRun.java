@@ -0,0 +1,29 @@
+package com.savit.card.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카드 승인내역 일괄 동기화 실행 기록
+ * 정기 동기화 1회 = 1행, 사용자별 진행 상황은 CardSyncRunUser 에 저장
+ * 여러 서버가 같은 실행에 참여하고, 사용자는 작업 묶음(CardSyncChunk) 단위로 나눠서 처리
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardSyncRun {
+    private Long id;
+    private String runKey;             // 실행 식별 키 (같은 실행이 두 번 시작되지 않도록 UNIQUE)
+    private CardSyncRunStatus status;
+    private Integer totalUsers;        // 대상 사용자 수
+    private Integer chunkCount;        // 사용자를 나눈 작업 묶음 수 (user_id % chunkCount)
+    private Integer resumeCount;       // 서버 재시작 후 이어서 실행한 횟수
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,16 @@
+package com.savit.card.domain;
+
+/**
+ * 카드 승인내역 일괄 동기화 실행(CardSyncRun) 상태
+ */
+public enum CardSyncRunStatus {
+
+    /** 실행 중 (서버가 중간에 내려갔으면 이 상태로 남음) */
+    RUNNING,
+
+    /** 모든 대상 사용자 처리 완료 */
+    COMPLETED,
+
+    /** 재개하지 않고 버린 실행 (다음 정기 실행이 대신 처리) */
+    ABANDONED
+}
@@ -0,0 +1,27 @@
+package com.savit.card.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 동기화 실행 안에서 사용자 1명의 처리 상태
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardSyncRunUser {
+    private Long runId;
+    private Long userId;
+    private Integer chunkNo;         // 속한 작업 묶음 번호 (user_id % chunkCount)
+    private CardSyncStatus status;   // PENDING → SUCCESS / FAILED / SKIPPED
+    private Integer attemptCount;    // 처리 시도 횟수 (보류 후 재처리, 재시작 후 재처리 포함)
+    private Long durationMillis;     // 마지막 시도 소요 시간
+    private Integer newRowCount;     // 마지막 시도에서 새로 저장된 승인내역 수
+    private String lastError;        // 마지막 오류 메시지
+    private LocalDateTime updatedAt;
+}
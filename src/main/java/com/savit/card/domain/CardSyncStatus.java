@@ -0,0 +1,19 @@
+package com.savit.card.domain;
+
+/**
+ * 사용자별 카드 승인내역 동기화 처리 결과 상태
+ */
+public enum CardSyncStatus {
+
+    /** 아직 처리하지 않음 (동기화 실행 기록용) */
+    PENDING,
+
+    /** 모든 카드 처리 완료 */
+    SUCCESS,
+
+    /** 처리 중 예외 발생 */
+    FAILED,
+
+    /** Codef 서킷이 열려 있어서 처리하지 못함 (나중에 다시 처리) */
+    SKIPPED
+}
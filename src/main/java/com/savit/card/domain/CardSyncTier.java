@@ -0,0 +1,16 @@
+package com.savit.card.domain;
+
+/**
+ * 카드 승인내역 동기화 우선순위 등급 (CardSyncPlanner 가 사용자별로 계산)
+ */
+public enum CardSyncTier {
+
+    /** 최근 접속했거나 챌린지 참여 중이거나 예산 경고 상태 - 주 사용 시간대에는 매시간 동기화 */
+    HOT,
+
+    /** 가끔 접속하는 사용자 (접속 기록이 아직 없는 사용자 포함) - 기존처럼 6시간마다 */
+    WARM,
+
+    /** 오랫동안 접속하지 않은 사용자 - 하루 한 번 */
+    COLD
+}
@@ -0,0 +1,25 @@
+package com.savit.card.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카드별 승인내역 동기화 기준점 (워터마크)
+ * 마지막으로 동기화에 성공한 시각과 그때까지 받은 가장 최근 승인일시를 저장
+ * 다음 동기화는 이 시점에서 겹침 구간(overlap)만큼 앞선 날짜부터 조회
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardSyncWatermark {
+    private Long cardId;                // Card 테이블 FK (PK)
+    private String lastUsedDate;        // 마지막으로 받은 승인일자 "20250723"
+    private String lastUsedTime;        // 마지막으로 받은 승인시간 "113022"
+    private LocalDateTime lastSyncedAt; // 마지막 동기화 성공 시각
+    private LocalDateTime updatedAt;
+}
@@ -21,6 +21,8 @@ public class CardTransactionVO {
     private String resMemberStoreName;
     private String resMemberStoreType;
 
+    private String approvalKey;
+
     private String createdAt;
     private String updatedAt;
 }
@@ -0,0 +1,30 @@
+package com.savit.card.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가맹점별 카테고리 보정값
+ * 사용자가 거래 카테고리를 직접 바꾸면 해당 가맹점의 카테고리를 기억해서 다음 분류 때 먼저 사용
+ * user_id = 0 인 행은 여러 사용자가 같은 보정을 했을 때 승격된 전체 사용자 공통 보정값
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MerchantCategoryOverride {
+
+    /** 전체 사용자 공통 보정값의 user_id */
+    public static final long GLOBAL_USER_ID = 0L;
+
+    private Long userId;          // 사용자 ID (0 = 전체 공통)
+    private String merchantKey;   // 전처리된 가맹점명
+    private Long categoryId;      // 보정된 카테고리 ID
+    private Integer hitCount;     // 같은 보정이 반복된 횟수
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
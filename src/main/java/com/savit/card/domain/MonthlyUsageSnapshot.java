@@ -0,0 +1,24 @@
+package com.savit.card.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 마감된 월 지출 합계 스냅샷
+ * 취소 반영 기간(정산 유예)이 지난 월만 저장하고, 마감 후 그 달 거래가 바뀌면 지웠다가 다시 계산해서 저장
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthlyUsageSnapshot {
+    private Long userId;
+    private String month;               // "202507"
+    private BigDecimal netAmount;       // 승인금액 - 취소금액 (절삭 전)
+    private LocalDateTime finalizedAt;
+}
@@ -0,0 +1,25 @@
+package com.savit.card.dto;
+
+import com.savit.card.domain.CardApproval;
+import com.savit.card.domain.CardSyncWatermark;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 카드 1장의 승인내역 조회 결과 (트랜잭션 밖에서 Codef 호출까지 끝낸 상태)
+ * CardApprovalWriter가 짧은 쓰기 트랜잭션 안에서 저장할 때 사용
+ */
+@Getter
+@Builder
+public class CardApprovalFetchResult {
+
+    private final Long cardId;
+    private final CardSyncWatermark previousWatermark; // 조회 시작 시점의 워터마크 (없으면 null)
+    private final List<CardApproval> approvals;        // 응답 내 중복을 제거한 승인내역
+    private final String latestUsedDate;               // 응답 중 가장 최근 승인일자 (없으면 null)
+    private final String latestUsedTime;
+    private final LocalDateTime syncStartedAt;
+}
@@ -2,8 +2,10 @@ package com.savit.card.dto;
 
 import com.savit.card.domain.Card;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor // CardMapper.selectCardsWithUsageByUserId 결과 매핑용
 public class CardDetailResponseDTO {
     private Long cardId;
     private String cardName;
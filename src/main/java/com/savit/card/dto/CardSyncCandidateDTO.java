@@ -0,0 +1,23 @@
+package com.savit.card.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카드 동기화 대상 사용자별 우선순위 계산 입력값
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CardSyncCandidateDTO {
+    private Long userId;
+    private LocalDateTime lastAccessAt;   // 마지막 앱 접속 (기록 없으면 null)
+    private LocalDateTime lastSyncedAt;   // 마지막 정기 동기화 실행 시각 (처리가 끝난 사용자만)
+    private int syncsToday;               // 오늘 정기 동기화 대상이었던 횟수 (Codef 호출 예산 계산용)
+    private boolean activeChallenge;      // 참여 중인 챌린지가 있는지
+}
@@ -0,0 +1,33 @@
+package com.savit.card.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.savit.card.domain.CardSyncTier;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이번 시간 카드 동기화 계획 (CardSyncPlanner 결과)
+ */
+@Getter
+@Builder
+@ToString(exclude = "userIds")
+public class CardSyncPlan {
+
+    private final LocalDateTime plannedAt;
+    @JsonIgnore
+    private final List<Long> userIds;              // 이번에 동기화할 사용자 (우선순위 순)
+    private final Map<CardSyncTier, Integer> tierCounts; // 등급별 전체 사용자 수
+    private final int dueUsers;                    // 주기가 돌아온 사용자 수 (예산 때문에 다음으로 밀린 사용자 포함)
+    private final int dailyBudget;                 // 하루 Codef 동기화 예산 (사용자 수 x 하루 기본 횟수)
+    private final int usedToday;                   // 오늘 이미 사용한 동기화 횟수
+    private final int allowance;                   // 이번 시간에 쓸 수 있는 횟수
+
+    public int getSelectedUsers() {
+        return userIds.size();
+    }
+}
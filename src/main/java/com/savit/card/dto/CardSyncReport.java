@@ -0,0 +1,32 @@
+package com.savit.card.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 카드 승인내역 일괄 동기화 완료 리포트
+ * CardSyncDispatcher가 각 사용자 작업의 CompletableFuture 결과를 모아서 생성
+ */
+@Getter
+@Builder
+@ToString
+public class CardSyncReport {
+
+    private final int totalUsers;           // 동기화 대상 사용자 수
+    private final int succeededUsers;       // 정상 처리된 사용자 수
+    private final int failedUsers;          // 실패한 사용자 수
+    private final int skippedUsers;         // Codef 서킷 열림으로 재처리 후에도 보류된 사용자 수
+    private final int unfinishedUsers;      // 제한 시간 내에 끝나지 않은 사용자 수
+    private final int newTransactionUsers;  // 새 거래내역이 발견된 사용자 수
+    private final long elapsedMillis;       // 전체 소요 시간
+    private final List<Long> failedUserIds; // 실패한 사용자 ID 목록
+    private final List<Long> skippedUserIds; // 보류된 사용자 ID 목록
+
+    // 제한 시간이 지나도 실행 중인 작업이 모두 끝나면 완료 (미완료 사용자가 없으면 이미 완료 상태)
+    @ToString.Exclude
+    private final CompletableFuture<Void> inFlight;
+}
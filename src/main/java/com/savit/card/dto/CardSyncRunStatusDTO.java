@@ -0,0 +1,32 @@
+package com.savit.card.dto;
+
+import com.savit.card.domain.CardSyncRunStatus;
+import com.savit.card.domain.CardSyncRunUser;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 최근 카드 승인내역 동기화 실행 현황 (스케줄러 상태 조회용)
+ */
+@Data
+public class CardSyncRunStatusDTO {
+    private Long runId;
+    private String runKey;
+    private CardSyncRunStatus status;
+    private Integer totalUsers;
+    private Integer resumeCount;
+    private Integer chunkCount;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    private int pendingUsers;     // 아직 처리하지 않은 사용자 수
+    private int succeededUsers;
+    private int failedUsers;
+    private int skippedUsers;     // Codef 서킷 열림으로 보류된 사용자 수
+    private long newRowCount;     // 이번 실행에서 새로 저장된 승인내역 수
+    private int doneChunks;       // 처리 완료된 작업 묶음 수
+
+    private List<CardSyncRunUser> recentErrors; // 최근 실패/보류 사용자
+}
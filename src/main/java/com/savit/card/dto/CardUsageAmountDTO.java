@@ -0,0 +1,13 @@
+package com.savit.card.dto;
+
+import lombok.Data;
+
+/**
+ * 카드별 기간 사용액 (취소 금액 차감) - 배치 작업의 여러 사용자 사용액 일괄 조회용
+ */
+@Data
+public class CardUsageAmountDTO {
+    private Long userId;
+    private Long cardId;
+    private int usageAmount;
+}
@@ -0,0 +1,19 @@
+package com.savit.card.dto;
+
+import lombok.Data;
+
+/**
+ * Codef 카드 승인내역(approval-list) 응답의 data 항목 1건
+ */
+@Data
+public class CodefApprovalDTO {
+    private String resCardNo;
+    private String resUsedDate;
+    private String resUsedTime;
+    private String resUsedAmount;
+    private String resCancelYN;
+    private String resCancelAmount;
+    private String resTotalAmount;
+    private String resMemberStoreName;
+    private String resMemberStoreType;
+}
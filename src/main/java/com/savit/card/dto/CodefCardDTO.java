@@ -0,0 +1,37 @@
+package com.savit.card.dto;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Setter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Codef 보유카드(card-list) 응답의 data 항목 1건
+ * 카드 등록 응답으로 그대로 내려주기 때문에, DTO에 없는 필드도 additionalFields에 담아 함께 직렬화
+ */
+@Data
+public class CodefCardDTO {
+    private String resCardName;
+    private String resCardNo;
+    private String resCardType;
+    private String resSleepYn;
+    private String resImageLink;
+    private String issuer;
+
+    @Setter(AccessLevel.NONE)
+    private Map<String, Object> additionalFields = new LinkedHashMap<>();
+
+    @JsonAnyGetter
+    public Map<String, Object> getAdditionalFields() {
+        return additionalFields;
+    }
+
+    @JsonAnySetter
+    public void setAdditionalField(String name, Object value) {
+        additionalFields.put(name, value);
+    }
+}
@@ -0,0 +1,14 @@
+package com.savit.card.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * 사용자 이번 달 / 지난 달 지출 합계 (취소 금액 차감)
+ */
+@Data
+public class MonthlyUsageDTO {
+    private BigDecimal thisMonthUsage = BigDecimal.ZERO;
+    private BigDecimal lastMonthUsage = BigDecimal.ZERO;
+}
@@ -0,0 +1,18 @@
+package com.savit.card.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class MonthlyUsageTrendDTO {
+    private String month;          // "202507"
+    private BigDecimal usage;      // 월 사용금액 (취소 차감, 10원 단위 절삭)
+    private boolean finalized;     // 마감된 월 여부 (false 면 취소 반영으로 바뀔 수 있음)
+}
@@ -0,0 +1,17 @@
+package com.savit.card.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 요청 동기화 결과 + 결과 출처
+ */
+@Getter
+@AllArgsConstructor
+public class OnDemandSyncResult<T> {
+    private final T data;
+    private final OnDemandSyncSource source;
+    private final LocalDateTime syncedAt;   // 실제 동기화가 끝난 시각
+}
@@ -0,0 +1,16 @@
+package com.savit.card.dto;
+
+/**
+ * 사용자 요청 동기화 결과를 어디서 가져왔는지 (응답 헤더 X-Sync-Source 로 전달)
+ */
+public enum OnDemandSyncSource {
+
+    /** 이 요청이 직접 Codef 를 호출해서 동기화 */
+    SYNCED,
+
+    /** 같은 동기화가 진행 중이어서 그 결과를 함께 받음 (Codef 호출 없음) */
+    COALESCED,
+
+    /** 방금 끝난 동기화 결과를 재사용 (Codef 호출 없음) */
+    CACHED
+}
@@ -0,0 +1,13 @@
+package com.savit.card.dto;
+
+import lombok.Data;
+
+/**
+ * 사용자별 시간대(0~23시) 거래 건수 - 주 사용 시간대 계산용
+ */
+@Data
+public class TransactionHourCountDTO {
+    private Long userId;
+    private int hour;
+    private int txCount;
+}
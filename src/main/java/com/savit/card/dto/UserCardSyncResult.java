@@ -0,0 +1,60 @@
+package com.savit.card.dto;
+
+import com.savit.card.domain.CardSyncStatus;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 사용자 1명의 카드 승인내역 동기화 결과
+ * AsyncCardApprovalService가 반환하는 CompletableFuture의 결과값
+ */
+@Getter
+@Builder
+@ToString
+public class UserCardSyncResult {
+
+    private final Long userId;
+    private final CardSyncStatus status;
+    private final boolean hasNewTransactions;
+    private final int newApprovalCount;
+    private final long elapsedMillis;
+    private final String errorMessage;
+
+    public static UserCardSyncResult success(Long userId, boolean hasNewTransactions, long elapsedMillis) {
+        return UserCardSyncResult.builder()
+                .userId(userId)
+                .status(CardSyncStatus.SUCCESS)
+                .hasNewTransactions(hasNewTransactions)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    public static UserCardSyncResult success(Long userId, int newApprovalCount, long elapsedMillis) {
+        return UserCardSyncResult.builder()
+                .userId(userId)
+                .status(CardSyncStatus.SUCCESS)
+                .hasNewTransactions(newApprovalCount > 0)
+                .newApprovalCount(newApprovalCount)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    public static UserCardSyncResult failed(Long userId, long elapsedMillis, String errorMessage) {
+        return UserCardSyncResult.builder()
+                .userId(userId)
+                .status(CardSyncStatus.FAILED)
+                .elapsedMillis(elapsedMillis)
+                .errorMessage(errorMessage)
+                .build();
+    }
+
+    public static UserCardSyncResult skipped(Long userId, long elapsedMillis, String errorMessage) {
+        return UserCardSyncResult.builder()
+                .userId(userId)
+                .status(CardSyncStatus.SKIPPED)
+                .elapsedMillis(elapsedMillis)
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import com.savit.card.dto.ApprovalApiDataDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -19,25 +20,27 @@ public interface CardApprovalMapper {
     ApprovalApiDataDTO findDataForApprovalApi(@Param("userId") Long userId, @Param("cardId") Long cardId);
 
     /**
-     * 조회된 카드 승인 내역을 DB에 저장
+     * 조회된 카드 승인 내역을 DB에 저장 (INSERT IGNORE)
+     * card_id + approval_key 유니크 인덱스에 걸리는 중복 행은 저장하지 않음
      * @param approvals 저장할 승인 내역 리스트
+     * @return 실제로 저장된 행 수
      */
-    void insertApprovals(@Param("approvals") List<CardApproval> approvals);
+    int insertApprovals(@Param("approvals") List<CardApproval> approvals);
 
     /**
-     * DB에 있는 승인내역 출력
-     * @param userId 사용자 ID
-     * @param cardId 조회할 카드 ID
+     * 주어진 중복 판별 키 중 이미 저장된 키만 조회
+     * @param cardId 카드 ID
+     * @param approvalKeys 이번에 조회된 승인내역의 키 목록
      */
-    List<CardApproval> findApprovalsByCardId(@Param("userId") Long userId, @Param("cardId") Long cardId);
+    List<String> findExistingApprovalKeys(@Param("cardId") Long cardId,
+                                          @Param("approvalKeys") Collection<String> approvalKeys);
 
     /**
-     * 사용자의 특정 월 모든 카드 승인내역 조회
+     * DB에 있는 승인내역 출력
      * @param userId 사용자 ID
-     * @param month 조회할 월 (yyyyMM 형식)
+     * @param cardId 조회할 카드 ID
      */
-    List<CardApproval> findThisMonthApprovalsByUser(@Param("userId") Long
-                                                            userId, @Param("month") String month);
+    List<CardApproval> findApprovalsByCardId(@Param("userId") Long userId, @Param("cardId") Long cardId);
 
     /**
      * 사용자 보유 카드 전체 id 값 가져오기
@@ -1,16 +1,30 @@
 package com.savit.card.mapper;
 
 import com.savit.card.domain.Card;
+import com.savit.card.dto.CardDetailResponseDTO;
+import com.savit.card.dto.CardUsageAmountDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
 public interface CardMapper {
     void insertCards(@Param("cards") List<Card> cards);
     Card selectCardByIdAndUserId(@Param("cardId") Long cardId, @Param("userId") Long userId);
-    int selectMonthlyUsageAmount(@Param("cardId") Long cardId);
+    int selectMonthlyUsageAmount(@Param("cardId") Long cardId,
+                                 @Param("fromDate") LocalDate fromDate,
+                                 @Param("toDate") LocalDate toDate);
+    // 사용자의 카드 목록과 카드별 기간 사용액을 한 번에 조회 (사용액 없는 카드는 0)
+    List<CardDetailResponseDTO> selectCardsWithUsageByUserId(@Param("userId") Long userId,
+                                                             @Param("fromDate") LocalDate fromDate,
+                                                             @Param("toDate") LocalDate toDate);
+    // 여러 사용자의 카드별 기간 사용액을 한 번에 조회 (사용액 없는 카드는 빠짐)
+    List<CardUsageAmountDTO> selectUsageAmountsByUserIds(@Param("userIds") Collection<Long> userIds,
+                                                         @Param("fromDate") LocalDate fromDate,
+                                                         @Param("toDate") LocalDate toDate);
     List<Card> selectCardsByUserId(Long userId);
     boolean existsCardByResCardNoAndUserId(@Param("resCardNo") String resCardNo, @Param("userId") Long userId);
     Card findFirstCardByUserId(@Param("userId") Long userId);
@@ -0,0 +1,29 @@
+package com.savit.card.mapper;
+
+import com.savit.card.dto.CardSyncCandidateDTO;
+import com.savit.card.dto.TransactionHourCountDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Mapper
+public interface CardSyncPriorityMapper {
+
+    /**
+     * 카드가 등록된 사용자별 접속/챌린지/최근 정기 동기화 현황 (최근 2일 실행 기록 기준)
+     */
+    List<CardSyncCandidateDTO> findSyncCandidates();
+
+    /**
+     * 이번 달 사용액이 예산의 warningRate 이상인 사용자
+     * @param month yyyyMM
+     */
+    List<Long> findBudgetAlertUserIds(@Param("month") String month, @Param("warningRate") BigDecimal warningRate);
+
+    /**
+     * fromDate(yyyyMMdd) 이후 사용자별 시간대 거래 건수
+     */
+    List<TransactionHourCountDTO> findTransactionHourCounts(@Param("fromDate") String fromDate);
+}
@@ -0,0 +1,97 @@
+package com.savit.card.mapper;
+
+import com.savit.card.domain.CardSyncChunkStatus;
+import com.savit.card.domain.CardSyncRun;
+import com.savit.card.domain.CardSyncRunStatus;
+import com.savit.card.domain.CardSyncRunUser;
+import com.savit.card.dto.CardSyncRunStatusDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface CardSyncRunMapper {
+
+    /**
+     * 실행 기록 생성 (id 자동 생성, run_key 가 이미 있으면 DuplicateKeyException)
+     */
+    void insertRun(CardSyncRun run);
+
+    /**
+     * 대상 사용자들을 PENDING 상태로 일괄 등록 (작업 묶음 번호 = user_id % chunkCount)
+     */
+    void insertRunUsers(@Param("runId") Long runId,
+                        @Param("chunkCount") int chunkCount,
+                        @Param("userIds") List<Long> userIds);
+
+    /**
+     * 작업 묶음들을 PENDING 상태로 등록
+     */
+    void insertChunks(@Param("runId") Long runId, @Param("chunkNos") List<Integer> chunkNos);
+
+    /**
+     * 사용자별 처리 결과 일괄 반영 (시도 횟수는 행마다 1씩 증가)
+     */
+    void upsertRunUserResults(@Param("results") List<CardSyncRunUser> results);
+
+    CardSyncRun findRunByKey(@Param("runKey") String runKey);
+
+    /**
+     * 실행 중(RUNNING) 상태로 남아 있는 실행 목록 (최근 것부터)
+     */
+    List<CardSyncRun> findRunningRuns();
+
+    /**
+     * 작업 묶음 안에서 아직 끝나지 않은 사용자 (PENDING, SKIPPED)
+     */
+    List<Long> findUnfinishedUserIds(@Param("runId") Long runId, @Param("chunkNo") int chunkNo);
+
+    /**
+     * 가져갈 수 있는 작업 묶음 번호 (PENDING, 임대 만료, 또는 이 서버가 재시작 전에 잡고 있던 묶음)
+     */
+    List<Integer> findClaimableChunkNos(@Param("runId") Long runId, @Param("nodeId") String nodeId);
+
+    /**
+     * 작업 묶음 임대 - 다른 서버가 먼저 가져갔으면 0 반환
+     */
+    int claimChunk(@Param("runId") Long runId,
+                   @Param("chunkNo") int chunkNo,
+                   @Param("nodeId") String nodeId,
+                   @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * 임대 연장 - 이미 다른 서버로 넘어갔으면 0 반환
+     */
+    int renewChunkLease(@Param("runId") Long runId,
+                        @Param("chunkNo") int chunkNo,
+                        @Param("nodeId") String nodeId,
+                        @Param("leaseSeconds") long leaseSeconds);
+
+    /**
+     * 이 서버가 임대 중인 작업 묶음의 상태 변경 (DONE: 완료, PENDING: 반납)
+     */
+    int updateChunkStatus(@Param("runId") Long runId,
+                          @Param("chunkNo") int chunkNo,
+                          @Param("nodeId") String nodeId,
+                          @Param("status") CardSyncChunkStatus status);
+
+    /**
+     * 아직 완료되지 않은 작업 묶음 수
+     */
+    int countOpenChunks(@Param("runId") Long runId);
+
+    void updateRunStatus(@Param("runId") Long runId, @Param("status") CardSyncRunStatus status);
+
+    void incrementResumeCount(@Param("runId") Long runId);
+
+    /**
+     * 가장 최근 실행의 사용자 상태별 집계 (실행 기록이 없으면 null)
+     */
+    CardSyncRunStatusDTO findLatestRunStatus();
+
+    /**
+     * 최근 실패/보류 사용자 목록
+     */
+    List<CardSyncRunUser> findRecentErrors(@Param("runId") Long runId, @Param("limit") int limit);
+}
@@ -0,0 +1,19 @@
+package com.savit.card.mapper;
+
+import com.savit.card.domain.CardSyncWatermark;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface CardSyncWatermarkMapper {
+
+    /**
+     * 카드의 동기화 워터마크 조회 (없으면 null)
+     */
+    CardSyncWatermark findByCardId(@Param("cardId") Long cardId);
+
+    /**
+     * 동기화 성공 후 워터마크 저장 (없으면 insert, 있으면 update)
+     */
+    void upsertWatermark(CardSyncWatermark watermark);
+}
@@ -16,8 +16,17 @@ public interface CardTransactionMapper {
     void updateCategory(@Param("transactionId") Long transactionId,
                         @Param("categoryId") Long categoryId);
 
+    // 여러 거래의 카테고리를 한 번의 UPDATE 로 변경 (id, categoryId 사용)
+    int updateCategories(@Param("transactions") List<CardTransactionVO> transactions);
+
     List<CardTransactionVO> findUnclassifiedTransactionsByUser(@Param("userId") Long userId);
 
+    CardTransactionVO findById(@Param("transactionId") Long transactionId);
+
+    // 사용자의 미분류(NULL 또는 '기타') 거래 (id, cardId, resUsedDate, resMemberStoreName 만 채움)
+    List<CardTransactionVO> findUncategorizedTransactionsByUser(@Param("userId") Long userId,
+                                                                @Param("fallbackCategoryId") Long fallbackCategoryId);
+
     Long findTransactionIdByCardIdAndDateTime(@Param("userId") Long userId,
                                               @Param("cardId") Long cardId,
                                               @Param("resUsedDate") String resUsedDate,
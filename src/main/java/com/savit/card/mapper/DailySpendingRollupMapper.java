@@ -0,0 +1,47 @@
+package com.savit.card.mapper;
+
+import com.savit.card.domain.MonthlyUsageSnapshot;
+import com.savit.card.dto.MonthlyUsageDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface DailySpendingRollupMapper {
+
+    /**
+     * 카드의 지정한 일자(yyyyMMdd) 집계 삭제
+     */
+    int deleteCardDays(@Param("cardId") Long cardId, @Param("usedDates") Collection<String> usedDates);
+
+    /**
+     * 카드의 지정한 일자(yyyyMMdd) 집계를 원본 거래에서 다시 계산해서 저장
+     */
+    int insertCardDays(@Param("cardId") Long cardId, @Param("usedDates") Collection<String> usedDates);
+
+    int deleteCard(@Param("cardId") Long cardId);
+
+    int insertCard(@Param("cardId") Long cardId);
+
+    List<Long> findAllCardIds();
+
+    /**
+     * 이번 달 / 지난 달 지출 합계를 한 번에 조회 (지난 달 1일 ~ 이번 달 말일 범위 한 번 스캔)
+     */
+    MonthlyUsageDTO sumMonthlyNetAmountsByUser(@Param("userId") Long userId,
+                                               @Param("lastMonthStart") LocalDate lastMonthStart,
+                                               @Param("monthStart") LocalDate monthStart,
+                                               @Param("monthEnd") LocalDate monthEnd);
+
+    /**
+     * 사용자의 기간 지출 합계를 월별로 조회 (userId, month, netAmount 만 채움, 지출 없는 월은 빠짐)
+     */
+    List<MonthlyUsageSnapshot> sumNetAmountByUserGroupByMonth(@Param("userId") Long userId,
+                                                              @Param("fromDate") LocalDate fromDate,
+                                                              @Param("toDate") LocalDate toDate);
+
+    List<Long> findUserIdsWithSpendingOn(@Param("usedDate") LocalDate usedDate);
+}
@@ -0,0 +1,27 @@
+package com.savit.card.mapper;
+
+import com.savit.card.domain.MerchantCategoryOverride;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+@Mapper
+public interface MerchantCategoryOverrideMapper {
+
+    /**
+     * 사용자의 가맹점 보정값 전체 조회 (user_id = 0 이면 전체 공통 보정값)
+     */
+    List<MerchantCategoryOverride> findByUserId(@Param("userId") Long userId);
+
+    /**
+     * 보정값 저장 (같은 사용자/가맹점이 있으면 카테고리를 바꾸고 횟수 증가)
+     */
+    void upsertOverride(MerchantCategoryOverride override);
+
+    /**
+     * 해당 가맹점을 같은 카테고리로 보정한 사용자 수 (전체 공통 행 제외)
+     */
+    int countUsersByMerchantAndCategory(@Param("merchantKey") String merchantKey,
+                                        @Param("categoryId") Long categoryId);
+}
@@ -0,0 +1,42 @@
+package com.savit.card.mapper;
+
+import com.savit.card.domain.MonthlyUsageSnapshot;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Mapper
+public interface MonthlyUsageSnapshotMapper {
+
+    /**
+     * 사용자의 기간(yyyyMM ~ yyyyMM) 스냅샷 조회
+     */
+    List<MonthlyUsageSnapshot> findByUserAndMonthRange(@Param("userId") Long userId,
+                                                       @Param("fromMonth") String fromMonth,
+                                                       @Param("toMonth") String toMonth);
+
+    /**
+     * 스냅샷 저장 (이미 있으면 그대로 둠)
+     */
+    int insertSnapshots(@Param("snapshots") List<MonthlyUsageSnapshot> snapshots);
+
+    /**
+     * 카드 소유자 ID (카드가 없으면 null)
+     */
+    Long findUserIdByCardId(@Param("cardId") Long cardId);
+
+    /**
+     * 사용자의 지정한 월(yyyyMM) 스냅샷 삭제
+     */
+    int deleteByUserAndMonths(@Param("userId") Long userId, @Param("months") Collection<String> months);
+
+    /**
+     * 전체 사용자의 해당 월 스냅샷을 일자별 지출 집계로 한 번에 저장 (지출 없는 사용자는 0원)
+     */
+    int insertMonthForAllUsers(@Param("month") String month,
+                               @Param("monthStart") LocalDate monthStart,
+                               @Param("monthEnd") LocalDate monthEnd);
+}
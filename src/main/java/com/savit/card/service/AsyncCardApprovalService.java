@@ -1,8 +1,10 @@
 package com.savit.card.service;
 
 import com.savit.budget.service.BudgetMonitoringService;
+import com.savit.card.dto.UserCardSyncResult;
 import com.savit.challenge.mapper.ChallengeParticipationMapper;
 import com.savit.challenge.service.ChallengeParticipationService;
+import com.savit.common.exception.CodefCircuitOpenException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -28,14 +30,17 @@ public class AsyncCardApprovalService {
      * 스케줄러에서 각 사용자별로 병렬 처리하기 위해 사용
      * 각 사용자 카드 돌면서 승인내역 업데이트
      * 업데이트 사항 존재시 예산 체크
+     * 처리 결과는 CardSyncDispatcher가 완료 리포트를 만들 때 사용
      */
     @Async
-    public CompletableFuture<Void> processUserCardApprovalsAsync(Long userId) {
+    public CompletableFuture<UserCardSyncResult> processUserCardApprovalsAsync(Long userId) {
+        long startedAt = System.currentTimeMillis();
         try {
             log.info("사용자 {} 카드 승인내역 비동기 처리 시작", userId);
             
             // 내부 메서드 호출 방식 - 사용자의 모든 카드 처리
-            boolean hasNewTransactions = cardApprovalService.fetchAndSaveAllCardsWithBudgetCheck(userId);
+            int newApprovalCount = cardApprovalService.fetchAndSaveAllCardsWithCount(userId);
+            boolean hasNewTransactions = newApprovalCount > 0;
 
             // 새로운 거래내역이 있으면 예산 체크 및 알림 발송
             if (hasNewTransactions) {
@@ -55,12 +60,18 @@ public class AsyncCardApprovalService {
             }
             
             log.info("사용자 {} 카드 승인내역 비동기 처리 완료 - 새 거래내역: {}", userId, hasNewTransactions);
-            
+            return CompletableFuture.completedFuture(
+                    UserCardSyncResult.success(userId, newApprovalCount, System.currentTimeMillis() - startedAt));
+
+        } catch (CodefCircuitOpenException e) {
+            log.warn("사용자 {} 카드 승인내역 처리 보류 - {}", userId, e.getMessage());
+            return CompletableFuture.completedFuture(
+                    UserCardSyncResult.skipped(userId, System.currentTimeMillis() - startedAt, e.getMessage()));
         } catch (Exception e) {
             log.error("사용자 {} 카드 승인내역 비동기 처리 실패: {}", userId, e.getMessage(), e);
+            return CompletableFuture.completedFuture(
+                    UserCardSyncResult.failed(userId, System.currentTimeMillis() - startedAt, e.getMessage()));
         }
-        
-        return CompletableFuture.completedFuture(null);
     }
     
     /**
@@ -97,12 +108,4 @@ public class AsyncCardApprovalService {
         
         return CompletableFuture.completedFuture(null);
     }
-    
-    /**
-     * 내부 메서드 호출 방식 - 비동기 처리 상태 로깅
-     * 스케줄러에서 전체 처리 현황을 파악하기 위해 사용
-     */
-    public void logAsyncProcessingStatus(int totalUsers, int processedUsers) {
-        log.info("비동기 카드 승인내역 처리 현황 - 전체: {}명, 처리 시작: {}명", totalUsers, processedUsers);
-    }
-}
\ No newline at end of file
+}
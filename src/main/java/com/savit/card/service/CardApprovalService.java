@@ -1,32 +1,46 @@
 package com.savit.card.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.savit.card.domain.ApprovalSyncMode;
 import com.savit.card.domain.CardApproval;
+import com.savit.card.domain.CardSyncWatermark;
 import com.savit.card.dto.ApprovalApiDataDTO;
-import com.savit.card.dto.CardTransactionDto;
+import com.savit.card.dto.CardApprovalFetchResult;
+import com.savit.card.dto.CodefApprovalDTO;
 import com.savit.card.dto.BudgetMonitoringDTO;
 import com.savit.card.dto.DashboardDTO;
+import com.savit.card.dto.MonthlyUsageDTO;
+import com.savit.card.dto.MonthlyUsageTrendDTO;
 import com.savit.card.mapper.CardApprovalMapper;
+import com.savit.card.mapper.CardSyncWatermarkMapper;
 import com.savit.budget.service.BudgetService;
 import com.savit.budget.domain.BudgetVO;
-import com.savit.card.util.CodefUtil;
-import io.codef.api.EasyCodef;
-import io.codef.api.EasyCodefServiceType;
-import io.codef.api.EasyCodefTokenMap;
+import com.savit.card.util.ApprovalKeyGenerator;
+import com.savit.card.util.CodefApiClient;
+import com.savit.card.util.CodefResponseParser;
+import com.savit.common.exception.CodefCircuitOpenException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -35,15 +49,60 @@ import java.util.stream.Collectors;
 public class CardApprovalService {
 
     private final CardApprovalMapper cardApprovalMapper;
-    private final CodefTokenService codefTokenService;
-    private final CodefUtil codefUtil;
+    private final CardSyncWatermarkMapper cardSyncWatermarkMapper;
+    private final CodefApiClient codefApiClient;
+    private final CodefResponseParser codefResponseParser;
     private final BudgetService budgetService;
-//    private final ObjectMapper objectMapper;
-    private final CardTransactionService cardTransactionService;
+    private final CardApprovalWriter cardApprovalWriter;
+    private final DailySpendingRollupService dailySpendingRollupService;
+    private final MonthlyUsageSnapshotService monthlyUsageSnapshotService;
+    private final DashboardCache dashboardCache;
+
+    // 카드별 Codef 조회를 동시에 실행할 스레드 풀
+    @Qualifier("cardFetchExecutor")
+    private final Executor cardFetchExecutor;
+
+    // 증분 조회 시 워터마크보다 앞당겨 다시 조회할 일수 (늦게 반영되는 승인내역 대비)
+    @Value("${codef.sync.overlap-days:3}")
+    private int overlapDays;
+
+    private static final String APPROVAL_LIST_URL = "/v1/kr/card/p/account/approval-list";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    // 월별 사용금액 추이 최대 조회 개월 수
+    private static final int MAX_TREND_MONTHS = 36;
 
-    @Transactional
     public List<CardApproval> fetchAndSaveApprovals(Long userId, Long cardId) throws Exception {
-        log.info("=== 승인내역 조회 시작 - userId: {}, cardId: {} ===", userId, cardId);
+        return fetchAndSaveApprovals(userId, cardId, ApprovalSyncMode.INCREMENTAL);
+    }
+
+    /**
+     * 카드 1장 승인내역 동기화
+     * Codef 조회는 트랜잭션 밖에서 하고, 저장만 CardApprovalWriter의 짧은 트랜잭션으로 처리
+     */
+    public List<CardApproval> fetchAndSaveApprovals(Long userId, Long cardId, ApprovalSyncMode mode) throws Exception {
+        CardApprovalFetchResult fetched = fetchApprovals(userId, cardId, mode);
+        return cardApprovalWriter.save(userId, fetched);
+    }
+
+    public void fetchAndSaveAllCards(Long userId) {
+        fetchAndSaveAllCards(userId, ApprovalSyncMode.INCREMENTAL);
+    }
+
+    /**
+     * @return 카드별 새로 저장된 승인내역 (조회/저장에 실패한 카드는 없음)
+     */
+    public Map<Long, List<CardApproval>> fetchAndSaveAllCards(Long userId, ApprovalSyncMode mode) {
+        return fetchAndSaveAllCardsInTwoPhases(userId, mode);
+    }
+
+    /**
+     * 조회 단계 - 트랜잭션 없이 DB 조회와 Codef API 호출, 응답 변환까지 수행
+     */
+    public CardApprovalFetchResult fetchApprovals(Long userId, Long cardId, ApprovalSyncMode mode) throws Exception {
+        log.info("=== 승인내역 조회 시작 - userId: {}, cardId: {}, mode: {} ===", userId, cardId, mode);
+        LocalDateTime syncStartedAt = LocalDateTime.now();
 
         // 1. DB에서 API 호출에 필요한 데이터 조회
         log.info("1. DB 데이터 조회 시작");
@@ -53,109 +112,126 @@ public class CardApprovalService {
         }
         log.info("DB 데이터 조회 완료 - resCardNo: {}", apiData.getResCardNo());
 
-        // 2. Codef API 호출
-        log.info("2. Codef API 호출 시작");
-        List<Map<String, Object>> approvalDataList = callApprovalHistoryApi(apiData);
-        log.info("Codef API 호출 완료 - 조회된 승인내역 수: {}", approvalDataList.size());
-
-//
-        // 3. 기존 승인내역 조회
-        List<CardApproval> existingApprovals = cardApprovalMapper.findApprovalsByCardId(userId, cardId);
-
-        // 4. 기존 승인내역을 식별 가능한 키로 Set에 저장
-        Set<String> existingKeys = existingApprovals.stream()
-                .map(this::generateUniqueKey)
-                .collect(Collectors.toSet());
-
-        // 5. 새로 가져온 승인 데이터 중 기존에 없는 것만 필터링
-        log.info("기존 승인내역 수: {}, 고유 키 수: {}",
-                existingApprovals.size(), existingKeys.size());
-
-        // 5. 새로 가져온 승인 데이터 처리
-        List<CardApproval> newApprovals = approvalDataList.stream()
-                .map(data -> {
-                    CardApproval approval = CardApproval.builder()
-                            .cardId(cardId)
-                            .budgetCategoryId(null)
-                            .categoryId(null)
-                            .resCardNo((String) data.get("resCardNo"))
-                            .resUsedDate((String) data.get("resUsedDate"))
-                            .resUsedTime((String) data.get("resUsedTime"))
-                            .resUsedAmount((String)
-                                    data.get("resUsedAmount"))
-                            .resCancelYN((String) data.get("resCancelYN"))
-                            .resCancelAmount((String)
-                                    data.get("resCancelAmount"))
-                            .resTotalAmount((String)
-                                    data.get("resTotalAmount"))
-                            .resMemberStoreName((String)
-                                    data.get("resMemberStoreName"))
-                            .resMemberStoreType((String)
-                                    data.get("resMemberStoreType"))
-                            .createdAt(LocalDateTime.now())
-                            .updatedAt(LocalDateTime.now())
-                            .build();
-
-                    log.debug("처리 중인 승인내역 키: {}",
-                            generateUniqueKey(approval));
-                    return approval;
-                })
-                .filter(approval -> {
-                    String key = generateUniqueKey(approval);
-                    boolean isNew = !existingKeys.contains(key);
-                    if (!isNew) {
-                        log.debug("중복 건너뛰기: {}", key);
-                    }
-                    return isNew;
-                })
-                .collect(Collectors.toList());
-
-        log.info("새로 저장할 승인내역 수: {}", newApprovals.size());
+        // 2. 조회 기간 결정 (워터마크 기준 증분 or 전체)
+        CardSyncWatermark watermark = cardSyncWatermarkMapper.findByCardId(cardId);
+        LocalDate end = syncStartedAt.toLocalDate();
+        LocalDate start = resolveStartDate(watermark, mode, end);
+        String startDate = start.format(DATE_FORMATTER);
+
+        // 3. Codef API 호출 - 응답을 스트리밍으로 읽으면서 바로 승인내역으로 변환
+        //    (같은 응답 안의 중복은 키 기준으로 제거)
+        log.info("3. Codef API 호출 시작 - 조회기간: {} ~ {}", startDate, end.format(DATE_FORMATTER));
+        Map<String, CardApproval> fetchedByKey = new LinkedHashMap<>();
+        int fetchedCount = callApprovalHistoryApi(apiData, start, end, data -> {
+            CardApproval approval = toCardApproval(cardId, data);
+            fetchedByKey.putIfAbsent(approval.getApprovalKey(), approval);
+        });
+        log.info("Codef API 호출 완료 - 조회된 승인내역 수: {}", fetchedCount);
+
+        // 4. 응답 중 가장 최근 승인일시 (워터마크용)
+        CardApproval latest = fetchedByKey.values().stream()
+                .filter(approval -> approval.getResUsedDate() != null)
+                .max(Comparator.comparing(approval -> approval.getResUsedDate() + safeString(approval.getResUsedTime())))
+                .orElse(null);
+
+        return CardApprovalFetchResult.builder()
+                .cardId(cardId)
+                .previousWatermark(watermark)
+                .approvals(new ArrayList<>(fetchedByKey.values()))
+                .latestUsedDate(latest != null ? latest.getResUsedDate() : null)
+                .latestUsedTime(latest != null ? latest.getResUsedTime() : null)
+                .syncStartedAt(syncStartedAt)
+                .build();
+    }
 
-        // 6. 새로운 승인내역만 저장
-        if (!newApprovals.isEmpty()) {
-            cardApprovalMapper.insertApprovals(newApprovals);
-            log.info("새 승인내역 저장 완료: {}건", newApprovals.size());
+    /**
+     * 사용자의 모든 카드를 두 단계로 동기화
+     * 1단계: 모든 카드의 Codef 조회를 트랜잭션 없이 cardFetchExecutor에서 동시에 실행 (전역 호출 속도는 CodefRateLimiter가 제한)
+     * 2단계: 모든 카드 조회가 끝나면 카드별로 짧은 쓰기 트랜잭션 실행
+     * 한 카드의 조회/저장이 실패해도 나머지 카드는 계속 처리
+     * @return 카드별 새로 저장된 승인내역
+     */
+    private Map<Long, List<CardApproval>> fetchAndSaveAllCardsInTwoPhases(Long userId, ApprovalSyncMode mode) {
+        List<Long> cardIds = cardApprovalMapper.findCardIdsByUser(userId); // 사용자 카드 전체 조회
+        List<CardApprovalFetchResult> fetchedCards = fetchAllCards(userId, cardIds, mode);
 
-            for (CardApproval approval : newApprovals) {
-                CardTransactionDto dto = CardTransactionDto.builder()
-                        .cardId(approval.getCardId())
-                        .userId(userId)
-                        .resUsedDate(approval.getResUsedDate())
-                        .resUsedTime(approval.getResUsedTime())
-                        .resMemberStoreName(approval.getResMemberStoreName())
-                        .resMemberStoreType(approval.getResMemberStoreType())
-                        .build();
+        Map<Long, List<CardApproval>> savedByCard = new LinkedHashMap<>();
+        for (CardApprovalFetchResult fetched : fetchedCards) {
+            try {
+                savedByCard.put(fetched.getCardId(), cardApprovalWriter.save(userId, fetched));
+            } catch (Exception e) {
+                log.error("카드 {} 저장 중 오류", fetched.getCardId(), e);
+            }
+        }
+        return savedByCard;
+    }
 
-                cardTransactionService.autoClassifyTransaction(dto);
+    // 카드별 조회를 동시에 실행하고 성공한 결과만 모음 (카드가 1장이면 현재 스레드에서 바로 실행)
+    private List<CardApprovalFetchResult> fetchAllCards(Long userId, List<Long> cardIds, ApprovalSyncMode mode) {
+        if (cardIds.size() <= 1) {
+            List<CardApprovalFetchResult> fetchedCards = new ArrayList<>(cardIds.size());
+            for (Long cardId : cardIds) {
+                fetchSafely(userId, cardId, mode).ifPresent(fetchedCards::add);
             }
-        } else {
-            log.info("저장할 새 승인내역이 없습니다.");
+            return fetchedCards;
         }
 
-        return newApprovals;
-    }
+        List<CompletableFuture<Optional<CardApprovalFetchResult>>> futures = cardIds.stream()
+                .map(cardId -> CompletableFuture.supplyAsync(() -> fetchSafely(userId, cardId, mode), cardFetchExecutor))
+                .collect(Collectors.toList());
 
-    public void fetchAndSaveAllCards(Long userId) {
-        List<Long> cardIds = cardApprovalMapper.findCardIdsByUser(userId); // 사용자 카드 전체 조회
-        for (Long cardId : cardIds) {
-            try {
-                fetchAndSaveApprovals(userId, cardId);
-            } catch (Exception e) {
-                log.error("카드 {} 처리 중 오류", cardId, e);
+        try {
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .flatMap(Optional::stream)
+                    .collect(Collectors.toList());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CodefCircuitOpenException) {
+                throw (CodefCircuitOpenException) e.getCause();
             }
+            throw e;
         }
     }
 
-    // 안전한 고유 키 생성 메서드
-    private String generateUniqueKey(CardApproval approval) {
-        return String.format("%s_%s_%s_%s_%s",
-                safeString(approval.getResCardNo()),
-                safeString(approval.getResUsedDate()),
-                safeString(approval.getResUsedTime()),
-                safeString(approval.getResUsedAmount()),
-                safeString(approval.getResMemberStoreName()) // 가맹점명으로 더 정확한 식별
-        );
+    // 카드 하나의 조회 실패는 로그만 남기고 건너뜀
+    // 단, 서킷이 열린 경우는 사용자 전체를 나중에 다시 처리해야 하므로 그대로 던짐
+    private Optional<CardApprovalFetchResult> fetchSafely(Long userId, Long cardId, ApprovalSyncMode mode) {
+        try {
+            return Optional.of(fetchApprovals(userId, cardId, mode));
+        } catch (CodefCircuitOpenException e) {
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("카드 {} 조회 중 인터럽트", cardId);
+        } catch (Exception e) {
+            log.error("카드 {} 조회 중 오류", cardId, e);
+        }
+        return Optional.empty();
+    }
+
+    // Codef 응답 1건을 승인내역으로 변환 (중복 판별 키 포함)
+    private CardApproval toCardApproval(Long cardId, CodefApprovalDTO data) {
+        LocalDateTime now = LocalDateTime.now();
+
+        return CardApproval.builder()
+                .cardId(cardId)
+                .budgetCategoryId(null)
+                .categoryId(null)
+                .resCardNo(data.getResCardNo())
+                .resUsedDate(data.getResUsedDate())
+                .resUsedTime(data.getResUsedTime())
+                .resUsedAmount(data.getResUsedAmount())
+                .resCancelYN(data.getResCancelYN())
+                .resCancelAmount(data.getResCancelAmount())
+                .resTotalAmount(data.getResTotalAmount())
+                .resMemberStoreName(data.getResMemberStoreName())
+                .resMemberStoreType(data.getResMemberStoreType())
+                .approvalKey(ApprovalKeyGenerator.generate(
+                        data.getResCardNo(), data.getResUsedDate(), data.getResUsedTime(),
+                        data.getResUsedAmount(), data.getResMemberStoreName()))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
     }
 
     // null 안전 문자열 변환
@@ -163,26 +239,33 @@ public class CardApprovalService {
         return value != null ? value : "NULL";
     }
 
-    // 승인내역 API 호출
-    private List<Map<String, Object>> callApprovalHistoryApi(ApprovalApiDataDTO apiData) throws Exception {
-        // Codef 토큰 설정
-        String accessToken = codefTokenService.getAccessToken();
-        EasyCodefTokenMap.setToken(codefUtil.getClientId(), accessToken);
-        EasyCodef client = codefUtil.newClient();
+    /**
+     * 조회 시작일 결정
+     * 전체 조회 또는 워터마크가 없으면 이전달 1일부터,
+     * 증분 조회면 마지막 동기화일에서 overlapDays 만큼 앞선 날짜부터 (이전달 1일보다 앞서지는 않음)
+     */
+    private LocalDate resolveStartDate(CardSyncWatermark watermark, ApprovalSyncMode mode, LocalDate end) {
+        LocalDate fullRangeStart = end.minusMonths(1).withDayOfMonth(1);
+        if (mode == ApprovalSyncMode.FULL || watermark == null || watermark.getLastSyncedAt() == null) {
+            return fullRangeStart;
+        }
 
-        // 조회 기간 설정 (1개월전부터 오늘까지) - 성능 향상을 위해 단축
-        LocalDate end = LocalDate.now();
-        // 이전달 1일 부터 가져오게끔 수정
-        LocalDate start = end.minusMonths(1).withDayOfMonth(1);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
+        LocalDate incrementalStart = watermark.getLastSyncedAt().toLocalDate().minusDays(overlapDays);
+        return incrementalStart.isAfter(fullRangeStart) ? incrementalStart : fullRangeStart;
+    }
 
+    // 승인내역 API 호출 - 응답의 승인내역을 한 건씩 consumer 로 넘기고 건수를 반환
+    private int callApprovalHistoryApi(ApprovalApiDataDTO apiData,
+                                       LocalDate start,
+                                       LocalDate end,
+                                       Consumer<CodefApprovalDTO> consumer) throws Exception {
         // API 파라미터 설정
         HashMap<String, Object> params = new HashMap<>();
         params.put("organization", apiData.getOrganization());
         params.put("connectedId", apiData.getConnectedId());
         params.put("birthDate", apiData.getBirthDate());
-        params.put("startDate", (String)start.format(formatter));
-        params.put("endDate", end.format(formatter));
+        params.put("startDate", start.format(DATE_FORMATTER));
+        params.put("endDate", end.format(DATE_FORMATTER));
         params.put("orderBy", "0"); // 최신순(0)
         params.put("inquiryType", "0"); // 조회구분(0:카드별 조회)
         params.put("cardName", apiData.getCardName()); // 실제 카드명 사용
@@ -192,30 +275,20 @@ public class CardApprovalService {
 
         log.info("API 파라미터 - cardNo: {}, cardName: {}", apiData.getResCardNo(), apiData.getCardName());
 
-        String resp = client.requestProduct(
-                "/v1/kr/card/p/account/approval-list",
-                EasyCodefServiceType.DEMO,
-                params
-        );
-        log.info("[CODEF] /v1/kr/card/p/account/approval-list 응답 = {}", resp);
-
-        Map<?, ?> map = new ObjectMapper().readValue(resp, Map.class);
-        Object dataObj = map.get("data"); // 응답 JSON 에서 승인내역들
-        List<Map<String, Object>> cardApprovalList;
-
-        if (map.get("result") != null && "CF-00000".equals(((Map<?, ?>) map.get("result")).get("code"))) {
-            if (dataObj instanceof List) {
-                cardApprovalList = (List<Map<String, Object>>) dataObj;
-            } else if (dataObj instanceof Map) {
-                cardApprovalList = List.of((Map<String, Object>) dataObj);
-            } else {
-                throw new IllegalStateException("예상치 못한 카드 승인내역 응답 형식: " + dataObj);
-            }
-            return cardApprovalList;
-        } else {
-            log.error("Codef API 호출 실패: {}", resp);
-            throw new IllegalStateException("카드 승인내역 조회에 실패했습니다. 응답: " + resp);
+        // 공용 클라이언트가 토큰 설치와 초당 호출 수 제한을 처리
+        String resp = codefApiClient.requestProduct(APPROVAL_LIST_URL, params);
+
+        CodefResponseParser.Summary summary =
+                codefResponseParser.forEachData(APPROVAL_LIST_URL, resp, CodefApprovalDTO.class, consumer);
+
+        if (!summary.isSuccess()) {
+            log.error("Codef API 호출 실패 - code: {}, message: {}", summary.getResultCode(), summary.getResultMessage());
+            throw new IllegalStateException("카드 승인내역 조회에 실패했습니다. 응답: " + codefResponseParser.abbreviate(resp));
+        }
+        if (!summary.isHasData()) {
+            throw new IllegalStateException("예상치 못한 카드 승인내역 응답 형식: " + codefResponseParser.abbreviate(resp));
         }
+        return summary.getDataCount();
     }
 
     // DB에 저장된 승인내역 보기
@@ -224,20 +297,23 @@ public class CardApprovalService {
     }
 
     // 메인 대시보드 데이터 조회 (Budget 연계) - 컨트롤러용
+    // 사용자/날짜별 캐시에서 반환, 없으면 계산 (동시 요청은 한 번만 계산)
     public DashboardDTO getDashboardData(Long userId) {
-        LocalDate now = LocalDate.now();
+        LocalDate today = LocalDate.now();
+        return dashboardCache.get(userId, today, () -> loadDashboardData(userId, today));
+    }
+
+    private DashboardDTO loadDashboardData(Long userId, LocalDate now) {
         String currentMonth =
                 now.format(DateTimeFormatter.ofPattern("yyyyMM"));
-        String lastMonth =
-                now.minusMonths(1).format(DateTimeFormatter.ofPattern("yyyyMM"));
 
         // 1. Budget에서 사용자 예산 정보 조회
         BudgetVO budget = budgetService.getBudget(userId);
 
         // 2. 이번달/저번달 사용금액 ��산
-        BigDecimal thisMonthUsage = calculateMonthlyUsage(userId,
-                currentMonth);
-        BigDecimal lastMonthUsage = calculateMonthlyUsage(userId, lastMonth);
+        MonthlyUsageDTO monthlyUsage = calculateMonthlyUsage(userId, now, true);
+        BigDecimal thisMonthUsage = monthlyUsage.getThisMonthUsage();
+        BigDecimal lastMonthUsage = monthlyUsage.getLastMonthUsage();
 
         // 3. 예산이 설정되어 있는 경우 계산
         BigDecimal totalBudget = BigDecimal.ZERO;
@@ -285,31 +361,52 @@ public class CardApprovalService {
                 .build();
     }
 
-    // 특정 월의 총 사용금액 계산
-    private BigDecimal calculateMonthlyUsage(Long userId, String month) {
-        List<CardApproval> monthlyApprovals =
-                cardApprovalMapper.findThisMonthApprovalsByUser(userId, month);
-
-        BigDecimal totalUsage = BigDecimal.ZERO;
-
-        for (CardApproval approval : monthlyApprovals) {
-            if (approval.getResUsedAmount() != null) {
-                BigDecimal usedAmount = new
-                        BigDecimal(approval.getResUsedAmount());
-
-                // 취소된 거래는 차감
-                if ("1".equals(approval.getResCancelYN()) &&
-                        approval.getResCancelAmount() != null) {
-                    BigDecimal canceled = new
-                            BigDecimal(approval.getResCancelAmount());
-                    usedAmount = usedAmount.subtract(canceled);
-                }
+    // 이번 달/전월 총 사용금액 계산 (취소 금액 차감, 10원 단위 절삭)
+    // 이번 달은 일자별 지출 집계를 DB에서 합산, 전월은 마감됐으면 스냅샷 캐시에서 읽고 아니면 같은 쿼리에서 함께 합산
+    private MonthlyUsageDTO calculateMonthlyUsage(Long userId, LocalDate today, boolean withLastMonth) {
+        YearMonth month = YearMonth.from(today);
+        YearMonth lastMonth = month.minusMonths(1);
+        boolean lastMonthClosed = withLastMonth && monthlyUsageSnapshotService.isClosed(lastMonth, today);
+
+        MonthlyUsageDTO usage = dailySpendingRollupService.getMonthlyUsage(
+                userId, month, withLastMonth && !lastMonthClosed);
+        if (lastMonthClosed) {
+            usage.setLastMonthUsage(monthlyUsageSnapshotService.getClosedMonthUsage(userId, lastMonth));
+        }
+        usage.setThisMonthUsage(truncateToTen(usage.getThisMonthUsage()));
+        usage.setLastMonthUsage(truncateToTen(usage.getLastMonthUsage()));
+        return usage;
+    }
 
-                totalUsage = totalUsage.add(usedAmount);
-            }
+    /**
+     * 월별 사용금액 추이 (이번 달 포함 최근 months 개월, 월 오름차순)
+     * 마감된 월은 스냅샷, 아직 마감 전인 월(이번 달, 정산 유예 중인 지난 달)만 일자별 지출 집계에서 합산
+     */
+    public List<MonthlyUsageTrendDTO> getMonthlyUsageTrend(Long userId, int months) {
+        int count = Math.max(1, Math.min(months, MAX_TREND_MONTHS));
+        LocalDate today = LocalDate.now();
+        YearMonth current = YearMonth.from(today);
+        YearMonth from = current.minusMonths(count - 1);
+        YearMonth latestClosed = monthlyUsageSnapshotService.getLatestClosedMonth(today);
+
+        Map<YearMonth, BigDecimal> usages = new LinkedHashMap<>();
+        if (!latestClosed.isBefore(from)) {
+            usages.putAll(monthlyUsageSnapshotService.getClosedMonthUsages(userId, from, latestClosed));
         }
+        YearMonth openFrom = latestClosed.isBefore(from) ? from : latestClosed.plusMonths(1);
+        usages.putAll(dailySpendingRollupService.getNetAmountsByMonth(userId, openFrom, current));
+
+        return usages.entrySet().stream()
+                .map(entry -> MonthlyUsageTrendDTO.builder()
+                        .month(entry.getKey().format(DateTimeFormatter.ofPattern("yyyyMM")))
+                        .usage(truncateToTen(entry.getValue()))
+                        .finalized(!entry.getKey().isAfter(latestClosed))
+                        .build())
+                .collect(Collectors.toList());
+    }
 
-        return totalUsage
+    private BigDecimal truncateToTen(BigDecimal amount) {
+        return amount
                 .divide(BigDecimal.TEN, 0, RoundingMode.DOWN)
                 .multiply(BigDecimal.TEN);
     }
@@ -328,7 +425,7 @@ public class CardApprovalService {
         BudgetVO budget = budgetService.getBudget(userId);
         
         // 2. 이번 달 사용금액 계산
-        BigDecimal thisMonthUsage = calculateMonthlyUsage(userId, currentMonth);
+        BigDecimal thisMonthUsage = calculateMonthlyUsage(userId, now, false).getThisMonthUsage();
         
         // 3. 예산 계산
         BigDecimal totalBudget = BigDecimal.ZERO;
@@ -366,33 +463,29 @@ public class CardApprovalService {
      * 내부 메서드 호출 방식 - 새 거래내역 추가 후 예산 체크 트리거
      * 스케줄러에서 fetchAndSaveApprovals 호출 후 사용
      */
-    @Transactional
     public boolean fetchAndSaveApprovalsWithBudgetCheck(Long userId, Long cardId) throws Exception {
         List<CardApproval> newApprovals = fetchAndSaveApprovals(userId, cardId);
         return !newApprovals.isEmpty(); // 새로운 거래내역이 있으면 true 반환
     }
-    
+
     /**
-     * 내부 메서드 호출 방식 - 사용자의 모든 카드 처리 후 예산 체크 트리거  
+     * 내부 메서드 호출 방식 - 사용자의 모든 카드 처리 후 예산 체크 트리거
      * 스케줄러에서 사용
      */
-    @Transactional
     public boolean fetchAndSaveAllCardsWithBudgetCheck(Long userId) {
-        List<Long> cardIds = cardApprovalMapper.findCardIdsByUser(userId);
-        boolean hasNewTransactions = false;
-        
-        for (Long cardId : cardIds) {
-            try {
-                List<CardApproval> newApprovals = fetchAndSaveApprovals(userId, cardId);
-                if (!newApprovals.isEmpty()) {
-                    hasNewTransactions = true;
-                }
-            } catch (Exception e) {
-                log.error("카드 {} 처리 중 오류", cardId, e);
-            }
-        }
-        
-        log.info("사용자 {} 카드 승인내역 동기화 완료 - 새 거래내역 여부: {}", userId, hasNewTransactions);
-        return hasNewTransactions;
+        return fetchAndSaveAllCardsWithCount(userId) > 0;
+    }
+
+    /**
+     * 내부 메서드 호출 방식 - 사용자의 모든 카드 처리 후 새로 저장된 승인내역 수 반환
+     * 동기화 실행 기록(CardSyncRunUser)에 남길 건수가 필요한 스케줄러에서 사용
+     */
+    public int fetchAndSaveAllCardsWithCount(Long userId) {
+        int newApprovalCount = fetchAndSaveAllCardsInTwoPhases(userId, ApprovalSyncMode.INCREMENTAL).values().stream()
+                .mapToInt(List::size)
+                .sum();
+
+        log.info("사용자 {} 카드 승인내역 동기화 완료 - 새 거래내역: {}건", userId, newApprovalCount);
+        return newApprovalCount;
     }
 }
@@ -0,0 +1,127 @@
+package com.savit.card.service;
+
+import com.savit.card.domain.CardApproval;
+import com.savit.card.domain.CardSyncWatermark;
+import com.savit.card.dto.CardApprovalFetchResult;
+import com.savit.card.mapper.CardApprovalMapper;
+import com.savit.card.mapper.CardSyncWatermarkMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 카드 승인내역 저장 (쓰기 단계)
+ * Codef 호출은 CardApprovalService에서 트랜잭션 밖에서 끝내고,
+ * 여기서는 DB 작업만 카드 1장당 하나의 짧은 트랜잭션으로 처리해서 커넥션 점유 시간을 최소화함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CardApprovalWriter {
+
+    private final CardApprovalMapper cardApprovalMapper;
+    private final CardSyncWatermarkMapper cardSyncWatermarkMapper;
+    private final CardTransactionService cardTransactionService;
+    private final DailySpendingRollupService dailySpendingRollupService;
+    private final DashboardCache dashboardCache;
+
+    /**
+     * 새 승인내역만 분류 후 저장하고 워터마크 갱신
+     * REPEATABLE READ: 첫 조회 시점 스냅샷을 유지해야 저장 후 다시 조회했을 때 이 트랜잭션이 저장한 행만 보임
+     * @return 이 트랜잭션에서 실제로 저장한 승인내역 (동시 동기화가 먼저 저장한 건 제외)
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public List<CardApproval> save(Long userId, CardApprovalFetchResult fetched) {
+        Long cardId = fetched.getCardId();
+        Map<String, CardApproval> fetchedByKey = fetched.getApprovals().stream()
+                .collect(Collectors.toMap(CardApproval::getApprovalKey, Function.identity(),
+                        (first, second) -> first, LinkedHashMap::new));
+
+        // 1. 이미 저장된 키만 조회 (card_id + approval_key 유니크 인덱스 사용)
+        Set<String> existingKeys = fetchedByKey.isEmpty()
+                ? Set.of()
+                : new HashSet<>(cardApprovalMapper.findExistingApprovalKeys(cardId, fetchedByKey.keySet()));
+        log.info("조회된 승인내역 수: {}, 이미 저장된 승인내역 수: {}", fetchedByKey.size(), existingKeys.size());
+
+        // 2. 새로 가져온 승인 데이터 중 기존에 없는 것만 필터링
+        List<CardApproval> newApprovals = fetchedByKey.values().stream()
+                .filter(approval -> !existingKeys.contains(approval.getApprovalKey()))
+                .collect(Collectors.toList());
+
+        log.info("새로 저장할 승인내역 수: {}", newApprovals.size());
+
+        // 3. 저장 전에 카테고리를 분류해 category_id 를 채운 뒤 한 번에 저장
+        //    (INSERT IGNORE - 동시에 저장된 중복은 DB 유니크 인덱스가 걸러냄)
+        if (!newApprovals.isEmpty()) {
+            newApprovals = cardTransactionService.classifyApprovals(userId, newApprovals);
+
+            int insertedCount = cardApprovalMapper.insertApprovals(newApprovals);
+            if (insertedCount < newApprovals.size()) {
+                log.warn("동시 동기화로 이미 저장된 승인내역 건너뜀 - cardId: {}, 요청: {}건, 저장: {}건",
+                        cardId, newApprovals.size(), insertedCount);
+                newApprovals = filterInserted(cardId, newApprovals);
+            }
+            log.info("새 승인내역 저장 완료: {}건", insertedCount);
+
+            // 같은 트랜잭션에서 저장한 일자의 지출 집계 갱신
+            dailySpendingRollupService.refresh(cardId,
+                    newApprovals.stream().map(CardApproval::getResUsedDate).collect(Collectors.toSet()));
+            dashboardCache.invalidate(userId);
+        } else {
+            log.info("저장할 새 승인내역이 없습니다.");
+        }
+
+        // 4. 동기화 성공 시점 기록
+        saveWatermark(fetched);
+
+        return newApprovals;
+    }
+
+    // INSERT IGNORE 로 건너뛴 행 제외 - 다른 트랜잭션이 저장한 행은 이 트랜잭션 스냅샷에 보이지 않으므로
+    // 다시 조회되는 키가 이 트랜잭션에서 저장한 것
+    private List<CardApproval> filterInserted(Long cardId, List<CardApproval> approvals) {
+        Set<String> insertedKeys = new HashSet<>(cardApprovalMapper.findExistingApprovalKeys(cardId,
+                approvals.stream().map(CardApproval::getApprovalKey).collect(Collectors.toList())));
+        return approvals.stream()
+                .filter(approval -> insertedKeys.contains(approval.getApprovalKey()))
+                .collect(Collectors.toList());
+    }
+
+    // 이번 조회에서 받은 가장 최근 승인일시와 동기화 시각을 워터마크로 저장
+    private void saveWatermark(CardApprovalFetchResult fetched) {
+        CardSyncWatermark previous = fetched.getPreviousWatermark();
+        String lastUsedDate = previous != null ? previous.getLastUsedDate() : null;
+        String lastUsedTime = previous != null ? previous.getLastUsedTime() : null;
+
+        String latestDate = fetched.getLatestUsedDate();
+        String latestTime = fetched.getLatestUsedTime();
+        if (latestDate != null
+                && (lastUsedDate == null
+                || (latestDate + safeString(latestTime)).compareTo(lastUsedDate + safeString(lastUsedTime)) > 0)) {
+            lastUsedDate = latestDate;
+            lastUsedTime = latestTime;
+        }
+
+        cardSyncWatermarkMapper.upsertWatermark(CardSyncWatermark.builder()
+                .cardId(fetched.getCardId())
+                .lastUsedDate(lastUsedDate)
+                .lastUsedTime(lastUsedTime)
+                .lastSyncedAt(fetched.getSyncStartedAt())
+                .build());
+    }
+
+    // null 안전 문자열 변환
+    private String safeString(String value) {
+        return value != null ? value : "NULL";
+    }
+}
@@ -1,19 +1,22 @@
 package com.savit.card.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.savit.card.domain.Card;
 import com.savit.card.dto.CardDetailResponseDTO;
+import com.savit.card.dto.CardUsageAmountDTO;
 import com.savit.card.dto.CardRegisterRequestDTO;
+import com.savit.card.dto.CodefCardDTO;
 import com.savit.card.mapper.CardMapper;
+import com.savit.card.util.CodefApiClient;
+import com.savit.card.util.CodefResponseParser;
 import com.savit.card.util.CodefUtil;
-import io.codef.api.EasyCodef;
-import io.codef.api.EasyCodefServiceType;
-import io.codef.api.EasyCodefTokenMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,18 +26,19 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class CardService {
 
-    private final CodefTokenService codefTokenService;
+    private static final String CREATE_ACCOUNT_URL = "/v1/account/create";
+    private static final String CARD_LIST_URL = "/v1/kr/card/p/account/card-list";
+
+    // 여러 사용자 사용액 조회 시 IN 절 한 번에 넣는 최대 사용자 수
+    private static final int USAGE_QUERY_BATCH_SIZE = 500;
+
+    private final CodefApiClient codefApiClient;
+    private final CodefResponseParser codefResponseParser;
     private final CodefUtil codefUtil;
     private final CardMapper cardMapper;
 
     public String registerAccount(CardRegisterRequestDTO req) throws Exception {
 
-        String accessToken = codefTokenService.getAccessToken();
-
-        EasyCodefTokenMap.setToken(codefUtil.getClientId(), accessToken);
-
-        EasyCodef client = codefUtil.newClient();
-
         HashMap<String, Object> account = new HashMap<>();
         account.put("countryCode", "KR");
         account.put("businessType", "CD");
@@ -52,27 +56,18 @@ public class CardService {
         HashMap<String, Object> params = new HashMap<>();
         params.put("accountList", list);
 
-        String resp = client.createAccount(EasyCodefServiceType.DEMO, params);
-
-        Map<?, ?> map = new ObjectMapper().readValue(resp, Map.class);
-        Map<?, ?> data = (Map<?, ?>) map.get("data");
-        String connectedId = (String) data.get("connectedId");
+        String resp = codefApiClient.createAccount(params);
+        String connectedId = codefResponseParser.readDataField(CREATE_ACCOUNT_URL, resp, "connectedId");
 
         if (connectedId == null) {
-            throw new IllegalStateException("ConnectedId 발급 실패\n" + resp);
+            throw new IllegalStateException("ConnectedId 발급 실패\n" + codefResponseParser.abbreviate(resp));
         }
         return connectedId;
     }
 
-    public List<Map<String, Object>> fetchCardList(String connectedId,
-                                                   String organization,
-                                                   String birthDate) throws Exception {
-
-        String accessToken = codefTokenService.getAccessToken();
-
-        EasyCodefTokenMap.setToken(codefUtil.getClientId(), accessToken);
-
-        EasyCodef client = codefUtil.newClient();
+    public List<CodefCardDTO> fetchCardList(String connectedId,
+                                            String organization,
+                                            String birthDate) throws Exception {
 
         HashMap<String, Object> params = new HashMap<>();
         params.put("connectedId", connectedId);
@@ -80,31 +75,20 @@ public class CardService {
         params.put("birthDate", birthDate);
         params.put("inquiryType", "1");
 
-        String resp = client.requestProduct(
-                "/v1/kr/card/p/account/card-list",
-                EasyCodefServiceType.DEMO,
-                params
-        );
-        log.info("[CODEF] createAccount 응답 = {}", resp);
-
+        String resp = codefApiClient.requestProduct(CARD_LIST_URL, params);
 
-        Map<String, Object> map = new ObjectMapper().readValue(resp, Map.class);
-        Object dataObj = map.get("data");
+        List<CodefCardDTO> cardList = new ArrayList<>();
+        CodefResponseParser.Summary summary =
+                codefResponseParser.forEachData(CARD_LIST_URL, resp, CodefCardDTO.class, cardList::add);
 
-        List<Map<String, Object>> cardList;
-
-        if (dataObj instanceof List) {
-            cardList = (List<Map<String, Object>>) dataObj;
-        } else if (dataObj instanceof Map) {
-            cardList = List.of((Map<String, Object>) dataObj);
-        } else {
-            throw new IllegalStateException("예상치 못한 카드 응답 형식: " + dataObj);
+        if (!summary.isHasData()) {
+            throw new IllegalStateException("예상치 못한 카드 응답 형식: " + codefResponseParser.abbreviate(resp));
         }
 
         return cardList;
     }
 
-    public void saveCards(List<Map<String, Object>> cardDataList,
+    public void saveCards(List<CodefCardDTO> cardDataList,
                           String connectedId,
                           String organization,
                           Long userId,
@@ -112,27 +96,24 @@ public class CardService {
                           String cardPassword) {
 
         List<Card> cards = cardDataList.stream()
-                .filter(data -> {
-                    String resCardNo = (String) data.get("resCardNo");
-                    return !cardMapper.existsCardByResCardNoAndUserId(resCardNo, userId);
-                })
+                .filter(data -> !cardMapper.existsCardByResCardNoAndUserId(data.getResCardNo(), userId))
                 .map(data -> Card.builder()
                         .connectedId(connectedId)
                         .organization(organization)
-                        .cardName((String) data.get("resCardName"))
-                        .issuer((String) data.get("issuer"))
+                        .cardName(data.getResCardName())
+                        .issuer(data.getIssuer())
                         // 사용자입력부 평문 입력 -> 프론트에서 encryptRSA 한 값 받아옴
                         // 테스트 위해 임시로 codefUtil.encryptRSA(encryptedCardNo) 사용
                         // 추후 .encryptedCardNo(encryptedCardNo) 로 변경해야 함
                         .encryptedCardNo(codefUtil.encryptRSA(encryptedCardNo))
-                        .resCardNo((String) data.get("resCardNo"))
-                        .resCardType((String) data.get("resCardType"))
-                        .resSleepYn((String) data.get("resSleepYn"))
+                        .resCardNo(data.getResCardNo())
+                        .resCardType(data.getResCardType())
+                        .resSleepYn(data.getResSleepYn())
                         // 비번도 마찬가지로 추후 변경
                         .cardPassword(codefUtil.encryptRSA(cardPassword))
                         .registeredAt(LocalDateTime.now())
                         .userId(userId)
-                        .resImageLink((String) data.get("resImageLink"))
+                        .resImageLink(data.getResImageLink())
                         .build())
                 .toList();
 
@@ -145,18 +126,35 @@ public class CardService {
         Card card = cardMapper.selectCardByIdAndUserId(cardId, userId);
         if (card == null) throw new IllegalArgumentException("카드를 찾을 수 없습니다.");
 
-        int usageAmount = cardMapper.selectMonthlyUsageAmount(cardId);
+        YearMonth month = YearMonth.now();
+        int usageAmount = cardMapper.selectMonthlyUsageAmount(cardId, month.atDay(1), month.atEndOfMonth());
 
         return new CardDetailResponseDTO(card, usageAmount);
     }
 
+    // 카드 수와 상관없이 카드 목록과 이번 달 사용액을 쿼리 1번으로 조회
     public List<CardDetailResponseDTO> getCardListByUser(Long userId) {
-        List<Card> cards = cardMapper.selectCardsByUserId(userId);
+        YearMonth month = YearMonth.now();
+        return cardMapper.selectCardsWithUsageByUserId(userId, month.atDay(1), month.atEndOfMonth());
+    }
 
-        return cards.stream().map(card -> {
-            int usageAmount = cardMapper.selectMonthlyUsageAmount(card.getId());
-            return new CardDetailResponseDTO(card, usageAmount);
-        }).toList();
+    /**
+     * 여러 사용자의 카드별 이번 달 사용액 (배치 작업용)
+     * @return userId -> (cardId -> 사용액), 이번 달 사용액이 없는 카드/사용자는 빠짐
+     */
+    public Map<Long, Map<Long, Integer>> getMonthlyUsageByUsers(Collection<Long> userIds) {
+        YearMonth month = YearMonth.now();
+        List<Long> ids = new ArrayList<>(userIds);
+        Map<Long, Map<Long, Integer>> usage = new HashMap<>();
+
+        for (int from = 0; from < ids.size(); from += USAGE_QUERY_BATCH_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + USAGE_QUERY_BATCH_SIZE, ids.size()));
+            for (CardUsageAmountDTO row : cardMapper.selectUsageAmountsByUserIds(
+                    chunk, month.atDay(1), month.atEndOfMonth())) {
+                usage.computeIfAbsent(row.getUserId(), id -> new HashMap<>()).put(row.getCardId(), row.getUsageAmount());
+            }
+        }
+        return usage;
     }
 
 }
\ No newline at end of file
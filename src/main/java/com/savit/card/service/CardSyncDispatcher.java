@@ -0,0 +1,256 @@
+package com.savit.card.service;
+
+import com.savit.card.domain.CardSyncStatus;
+import com.savit.card.dto.CardSyncReport;
+import com.savit.card.dto.UserCardSyncResult;
+import com.savit.card.util.CodefCircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * 내부 메서드 호출 방식 - 카드 승인내역 동기화 작업 분배기
+ * 스케줄러에서 사용자별 비동기 작업을 제출할 때 동시 처리 개수(in-flight)를 제한하고,
+ * 스레드 풀 큐가 가득 차서 거절되면 버리지 않고 잠시 후 다시 제출함
+ * Codef 초당 호출 수 제한은 CodefRateLimiter가 실제 API 호출 시점에 적용
+ * Codef 서킷이 열려서 보류된 사용자는 버리지 않고 서킷이 풀린 뒤 다시 제출
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CardSyncDispatcher {
+
+    private final AsyncCardApprovalService asyncCardApprovalService;
+    private final CodefCircuitBreaker codefCircuitBreaker;
+
+    // 동시에 처리 중일 수 있는 최대 사용자 수
+    @Value("${codef.sync.max-in-flight:10}")
+    private int maxInFlight;
+
+    // 작업 제출이 거절됐을 때 재시도 간격 (ms)
+    @Value("${codef.sync.rejected-retry-millis:1000}")
+    private long rejectedRetryMillis;
+
+    // 전체 동기화 완료 대기 시간 (분) - 보류 사용자 재처리 시간 포함
+    @Value("${codef.sync.await-minutes:60}")
+    private long awaitMinutes;
+
+    // Codef 서킷 열림으로 보류된 사용자를 다시 처리할 최대 횟수
+    @Value("${codef.sync.skipped-max-requeue:3}")
+    private int skippedMaxRequeue;
+
+    // 보류 사용자를 다시 처리하기 전 최소 대기 시간 (ms)
+    @Value("${codef.sync.requeue-delay-millis:5000}")
+    private long requeueDelayMillis;
+
+    /**
+     * 사용자 목록을 비동기로 처리하고, 모든 작업이 끝날 때까지 기다린 뒤 리포트를 반환
+     * Codef 서킷이 열려서 보류된 사용자는 서킷이 다시 열릴 때까지 기다렸다가 최대 skippedMaxRequeue 번 다시 처리
+     */
+    public CardSyncReport dispatch(List<Long> userIds) {
+        return dispatch(userIds, result -> { });
+    }
+
+    /**
+     * 사용자별 작업이 끝날 때마다 resultListener 에 결과를 넘겨줌 (보류 후 다시 처리한 경우 시도마다 호출)
+     */
+    public CardSyncReport dispatch(List<Long> userIds, Consumer<UserCardSyncResult> resultListener) {
+        long startedAt = System.currentTimeMillis();
+        long deadline = startedAt + TimeUnit.MINUTES.toMillis(awaitMinutes);
+
+        // 사용자별 마지막 처리 작업 (다시 처리하면 덮어씀)
+        Map<Long, CompletableFuture<UserCardSyncResult>> futuresByUser = new LinkedHashMap<>();
+        // 사용자별 resultListener 호출까지 끝나는 시점
+        Map<Long, CompletableFuture<Void>> listenedByUser = new LinkedHashMap<>();
+
+        List<Long> pending = userIds;
+        for (int requeue = 0; ; requeue++) {
+            List<CompletableFuture<UserCardSyncResult>> futures = submitAll(pending);
+            for (int i = 0; i < futures.size(); i++) {
+                futuresByUser.put(pending.get(i), futures.get(i));
+                listenedByUser.put(pending.get(i), futures.get(i).thenAccept(resultListener));
+            }
+            awaitAll(futures, deadline);
+
+            // 제출 중 인터럽트로 일부만 제출됐으면 다시 처리하지 않음
+            if (futures.size() < pending.size()) {
+                break;
+            }
+            List<Long> skipped = collectSkipped(futures);
+            if (skipped.isEmpty()) {
+                break;
+            }
+            if (requeue >= skippedMaxRequeue || !waitForCircuit(deadline)) {
+                log.warn("Codef 서킷 열림으로 보류된 사용자 {}명은 다음 동기화에서 처리합니다.", skipped.size());
+                break;
+            }
+            log.info("Codef 서킷 열림으로 보류된 사용자 {}명 다시 처리 ({}/{})", skipped.size(), requeue + 1, skippedMaxRequeue);
+            pending = skipped;
+        }
+
+        CardSyncReport report = buildReport(userIds.size(), futuresByUser, listenedByUser, System.currentTimeMillis() - startedAt);
+        log.info("카드 승인내역 동기화 리포트 - 전체: {}명, 성공: {}명, 실패: {}명, 보류: {}명, 미완료: {}명, 새 거래내역: {}명, 소요: {}ms",
+                report.getTotalUsers(), report.getSucceededUsers(), report.getFailedUsers(), report.getSkippedUsers(),
+                report.getUnfinishedUsers(), report.getNewTransactionUsers(), report.getElapsedMillis());
+        return report;
+    }
+
+    // 동시 처리 수를 maxInFlight개로 제한하면서 제출 (서킷이 열려 있으면 제출하지 않고 바로 보류 처리)
+    private List<CompletableFuture<UserCardSyncResult>> submitAll(List<Long> userIds) {
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        List<CompletableFuture<UserCardSyncResult>> futures = new ArrayList<>(userIds.size());
+
+        for (Long userId : userIds) {
+            if (codefCircuitBreaker.isOpen()) {
+                futures.add(CompletableFuture.completedFuture(
+                        UserCardSyncResult.skipped(userId, 0L, "Codef 서킷 열림")));
+                continue;
+            }
+
+            try {
+                // 처리 중인 작업이 maxInFlight개면 하나가 끝날 때까지 대기
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("카드 승인내역 동기화 분배 중단 - 제출 완료: {}명 / 전체: {}명", futures.size(), userIds.size());
+                break;
+            }
+
+            CompletableFuture<UserCardSyncResult> future = submit(userId);
+            future.whenComplete((result, e) -> inFlight.release());
+            futures.add(future);
+        }
+        return futures;
+    }
+
+    private List<Long> collectSkipped(List<CompletableFuture<UserCardSyncResult>> futures) {
+        List<Long> skipped = new ArrayList<>();
+        for (CompletableFuture<UserCardSyncResult> future : futures) {
+            if (future.isDone() && !future.isCompletedExceptionally()
+                    && future.join().getStatus() == CardSyncStatus.SKIPPED) {
+                skipped.add(future.join().getUserId());
+            }
+        }
+        return skipped;
+    }
+
+    // 서킷이 다시 시험 호출을 허용할 때까지 대기 (최소 requeueDelayMillis), 전체 제한 시간을 넘기면 false
+    private boolean waitForCircuit(long deadline) {
+        long waitMillis = Math.max(codefCircuitBreaker.getRemainingOpenMillis(), requeueDelayMillis);
+        if (System.currentTimeMillis() + waitMillis >= deadline) {
+            return false;
+        }
+        try {
+            Thread.sleep(waitMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 스레드 풀이 작업을 거절하면 버리지 않고 대기 후 다시 제출
+    private CompletableFuture<UserCardSyncResult> submit(Long userId) {
+        while (true) {
+            try {
+                return asyncCardApprovalService.processUserCardApprovalsAsync(userId);
+            } catch (TaskRejectedException e) {
+                log.warn("사용자 {} 카드 동기화 작업 제출 거절 - {}ms 후 재시도", userId, rejectedRetryMillis);
+                try {
+                    Thread.sleep(rejectedRetryMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return CompletableFuture.completedFuture(
+                            UserCardSyncResult.failed(userId, 0L, "작업 제출 대기 중 인터럽트"));
+                }
+            }
+        }
+    }
+
+    private void awaitAll(List<CompletableFuture<UserCardSyncResult>> futures, long deadline) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new))
+                    .get(Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("카드 승인내역 동기화가 {}분 안에 끝나지 않았습니다. 완료된 작업만 리포트에 반영합니다.", awaitMinutes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("카드 승인내역 동기화 완료 대기 중 인터럽트 발생");
+        } catch (ExecutionException e) {
+            // 개별 실패는 buildReport에서 사용자별로 집계
+            log.debug("카드 승인내역 동기화 중 일부 작업 실패", e);
+        }
+    }
+
+    private CardSyncReport buildReport(int totalUsers,
+                                       Map<Long, CompletableFuture<UserCardSyncResult>> futuresByUser,
+                                       Map<Long, CompletableFuture<Void>> listenedByUser,
+                                       long elapsedMillis) {
+        int succeeded = 0;
+        int failed = 0;
+        int skipped = 0;
+        int unfinished = totalUsers - futuresByUser.size(); // 제출하지 못한 사용자 포함
+        int withNewTransactions = 0;
+        List<Long> failedUserIds = new ArrayList<>();
+        List<Long> skippedUserIds = new ArrayList<>();
+        List<CompletableFuture<Void>> running = new ArrayList<>(); // 제한 시간 후에도 실행 중인 작업
+
+        for (Map.Entry<Long, CompletableFuture<UserCardSyncResult>> entry : futuresByUser.entrySet()) {
+            CompletableFuture<UserCardSyncResult> future = entry.getValue();
+            if (!future.isDone()) {
+                unfinished++;
+                running.add(listenedByUser.get(entry.getKey()));
+                continue;
+            }
+
+            UserCardSyncResult result;
+            try {
+                result = future.join();
+            } catch (Exception e) {
+                failed++;
+                failedUserIds.add(entry.getKey());
+                continue;
+            }
+
+            if (result.getStatus() == CardSyncStatus.SUCCESS) {
+                succeeded++;
+                if (result.isHasNewTransactions()) {
+                    withNewTransactions++;
+                }
+            } else if (result.getStatus() == CardSyncStatus.SKIPPED) {
+                skipped++;
+                skippedUserIds.add(result.getUserId());
+            } else {
+                failed++;
+                failedUserIds.add(result.getUserId());
+            }
+        }
+
+        return CardSyncReport.builder()
+                .totalUsers(totalUsers)
+                .succeededUsers(succeeded)
+                .failedUsers(failed)
+                .skippedUsers(skipped)
+                .unfinishedUsers(unfinished)
+                .newTransactionUsers(withNewTransactions)
+                .elapsedMillis(elapsedMillis)
+                .failedUserIds(failedUserIds)
+                .skippedUserIds(skippedUserIds)
+                .inFlight(CompletableFuture.allOf(running.toArray(CompletableFuture<?>[]::new))
+                        .exceptionally(e -> null))
+                .build();
+    }
+}
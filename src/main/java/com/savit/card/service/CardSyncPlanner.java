@@ -0,0 +1,253 @@
+package com.savit.card.service;
+
+import com.savit.card.domain.CardSyncTier;
+import com.savit.card.dto.CardSyncCandidateDTO;
+import com.savit.card.dto.CardSyncPlan;
+import com.savit.card.dto.TransactionHourCountDTO;
+import com.savit.card.mapper.CardSyncPriorityMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 카드 승인내역 동기화 대상 선정 (매시간 호출)
+ * - 마지막 앱 접속, 챌린지 참여, 예산 경고 상태로 사용자 등급(HOT/WARM/COLD)을 정하고
+ *   등급별 주기가 돌아온 사용자만 동기화
+ * - HOT 사용자는 평소 거래가 많은 시간대 직후에는 매시간 동기화
+ * - 하루 전체 동기화 횟수는 기존(사용자 수 x 하루 4회)을 넘지 않도록 남은 예산을 남은 시간에 나눠서 사용
+ *   (주기 대비 가장 많이 밀린 사용자부터)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CardSyncPlanner {
+
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    // 우선순위 계산을 끄면 기존처럼 00/06/12/18시에 전체 사용자 동기화
+    private static final Set<Integer> LEGACY_SYNC_HOURS = Set.of(0, 6, 12, 18);
+
+    private final CardSyncPriorityMapper cardSyncPriorityMapper;
+
+    @Value("${card-sync.priority.enabled:true}")
+    private boolean enabled;
+
+    // 사용자 한 명당 하루 기본 동기화 횟수 (하루 예산 = 사용자 수 x 이 값)
+    @Value("${card-sync.priority.daily-syncs-per-user:4}")
+    private int dailySyncsPerUser;
+
+    @Value("${card-sync.priority.hot-access-days:3}")
+    private long hotAccessDays;
+
+    @Value("${card-sync.priority.dormant-days:30}")
+    private long dormantDays;
+
+    @Value("${card-sync.priority.hot-active-interval-minutes:60}")
+    private long hotActiveIntervalMinutes;
+
+    @Value("${card-sync.priority.default-interval-minutes:360}")
+    private long defaultIntervalMinutes;
+
+    @Value("${card-sync.priority.cold-interval-minutes:1440}")
+    private long coldIntervalMinutes;
+
+    // 스케줄 실행 시각이 조금 어긋나도 주기를 한 번 건너뛰지 않도록 허용하는 오차
+    @Value("${card-sync.priority.slack-minutes:10}")
+    private long slackMinutes;
+
+    // 예산 경고로 보는 사용률 (CardApprovalService.getBudgetMonitoringData 와 같은 80%)
+    @Value("${card-sync.priority.budget-warning-rate:0.8}")
+    private BigDecimal budgetWarningRate;
+
+    // 주 사용 시간대 계산에 쓰는 기간과 기준 (전체 거래 중 이 비율 이상이 몰린 시간대)
+    @Value("${card-sync.priority.active-hour-lookback-days:60}")
+    private long activeHourLookbackDays;
+
+    @Value("${card-sync.priority.active-hour-min-share:0.15}")
+    private double activeHourMinShare;
+
+    // 예산 경고/주 사용 시간대는 무거운 집계라 이 간격으로만 다시 계산
+    @Value("${card-sync.priority.profile-refresh-minutes:360}")
+    private long profileRefreshMinutes;
+
+    private volatile Set<Long> budgetAlertUserIds = Set.of();
+    private volatile Map<Long, Integer> activeHourMasks = Map.of();
+    private volatile LocalDateTime profileLoadedAt;
+
+    private volatile CardSyncPlan lastPlan;
+
+    /**
+     * 지금 동기화할 사용자 선정
+     */
+    public CardSyncPlan plan(LocalDateTime now) {
+        List<CardSyncCandidateDTO> candidates = cardSyncPriorityMapper.findSyncCandidates();
+
+        CardSyncPlan plan;
+        if (!enabled) {
+            List<Long> userIds = LEGACY_SYNC_HOURS.contains(now.getHour())
+                    ? candidates.stream().map(CardSyncCandidateDTO::getUserId).collect(Collectors.toList())
+                    : List.of();
+            plan = CardSyncPlan.builder()
+                    .plannedAt(now)
+                    .userIds(userIds)
+                    .tierCounts(Map.of())
+                    .dueUsers(userIds.size())
+                    .dailyBudget(candidates.size() * dailySyncsPerUser)
+                    .allowance(userIds.size())
+                    .build();
+        } else {
+            refreshProfilesIfStale(now);
+            plan = plan(candidates, budgetAlertUserIds, activeHourMasks, now);
+        }
+
+        lastPlan = plan;
+        log.info("카드 동기화 계획 - {}", plan);
+        return plan;
+    }
+
+    /**
+     * 등급/주기/예산으로 이번 시간 대상 선정
+     * @param activeHourMasks 사용자별 동기화를 자주 할 시각(0~23시) 비트 마스크
+     */
+    CardSyncPlan plan(List<CardSyncCandidateDTO> candidates, Set<Long> budgetAlertUserIds,
+                      Map<Long, Integer> activeHourMasks, LocalDateTime now) {
+        Map<CardSyncTier, Integer> tierCounts = new EnumMap<>(CardSyncTier.class);
+        List<DueUser> due = new ArrayList<>();
+        int usedToday = 0;
+
+        for (CardSyncCandidateDTO candidate : candidates) {
+            usedToday += candidate.getSyncsToday();
+
+            CardSyncTier tier = tierOf(candidate, budgetAlertUserIds, now);
+            tierCounts.merge(tier, 1, Integer::sum);
+
+            long interval = intervalMinutes(tier, activeHourMasks.getOrDefault(candidate.getUserId(), 0), now);
+            if (candidate.getLastSyncedAt() == null) {
+                due.add(new DueUser(candidate.getUserId(), tier, Double.MAX_VALUE));
+                continue;
+            }
+            long elapsed = Duration.between(candidate.getLastSyncedAt(), now).toMinutes();
+            if (elapsed + slackMinutes >= interval) {
+                due.add(new DueUser(candidate.getUserId(), tier, (double) elapsed / interval));
+            }
+        }
+
+        // 남은 예산을 오늘 남은 실행 횟수(매시간)로 나눠서 이번 시간 몫 결정
+        int dailyBudget = candidates.size() * dailySyncsPerUser;
+        int remaining = Math.max(0, dailyBudget - usedToday);
+        int hoursLeft = 24 - now.getHour();
+        int allowance = (remaining + hoursLeft - 1) / hoursLeft;
+
+        List<Long> userIds = due.stream()
+                .sorted(Comparator.comparingDouble(DueUser::overdueRatio).reversed()
+                        .thenComparing(DueUser::tier))
+                .limit(allowance)
+                .map(DueUser::userId)
+                .collect(Collectors.toList());
+
+        return CardSyncPlan.builder()
+                .plannedAt(now)
+                .userIds(userIds)
+                .tierCounts(tierCounts)
+                .dueUsers(due.size())
+                .dailyBudget(dailyBudget)
+                .usedToday(usedToday)
+                .allowance(allowance)
+                .build();
+    }
+
+    public CardSyncPlan getLastPlan() {
+        return lastPlan;
+    }
+
+    private CardSyncTier tierOf(CardSyncCandidateDTO candidate, Set<Long> budgetAlertUserIds, LocalDateTime now) {
+        LocalDateTime lastAccessAt = candidate.getLastAccessAt();
+        if (candidate.isActiveChallenge()
+                || budgetAlertUserIds.contains(candidate.getUserId())
+                || (lastAccessAt != null && lastAccessAt.isAfter(now.minusDays(hotAccessDays)))) {
+            return CardSyncTier.HOT;
+        }
+        // 접속 기록이 없는 사용자는 판단할 근거가 없으므로 기존 주기 유지
+        if (lastAccessAt == null || lastAccessAt.isAfter(now.minusDays(dormantDays))) {
+            return CardSyncTier.WARM;
+        }
+        return CardSyncTier.COLD;
+    }
+
+    private long intervalMinutes(CardSyncTier tier, int activeHourMask, LocalDateTime now) {
+        switch (tier) {
+            case HOT:
+                return (activeHourMask & (1 << now.getHour())) != 0 ? hotActiveIntervalMinutes : defaultIntervalMinutes;
+            case COLD:
+                return coldIntervalMinutes;
+            default:
+                return defaultIntervalMinutes;
+        }
+    }
+
+    private void refreshProfilesIfStale(LocalDateTime now) {
+        LocalDateTime loadedAt = profileLoadedAt;
+        if (loadedAt != null && loadedAt.plusMinutes(profileRefreshMinutes).isAfter(now)) {
+            return;
+        }
+        try {
+            budgetAlertUserIds = new HashSet<>(cardSyncPriorityMapper.findBudgetAlertUserIds(
+                    now.format(MONTH_FORMATTER), budgetWarningRate));
+            activeHourMasks = toActiveHourMasks(cardSyncPriorityMapper.findTransactionHourCounts(
+                    now.minusDays(activeHourLookbackDays).format(DATE_FORMATTER)));
+            profileLoadedAt = now;
+            log.info("카드 동기화 우선순위 프로필 갱신 - 예산 경고: {}명, 주 사용 시간대 계산: {}명",
+                    budgetAlertUserIds.size(), activeHourMasks.size());
+        } catch (Exception e) {
+            // 실패하면 이전 값으로 계속 진행하고 다음 실행에서 다시 시도
+            log.error("카드 동기화 우선순위 프로필 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 거래가 몰린 시간대 바로 다음 정각을 자주 동기화할 시각으로 표시
+     * (12시대 거래는 13시 동기화에서 조회됨)
+     */
+    Map<Long, Integer> toActiveHourMasks(List<TransactionHourCountDTO> hourCounts) {
+        Map<Long, Integer> totals = new HashMap<>();
+        for (TransactionHourCountDTO count : hourCounts) {
+            totals.merge(count.getUserId(), count.getTxCount(), Integer::sum);
+        }
+
+        Map<Long, Integer> masks = new HashMap<>();
+        for (TransactionHourCountDTO count : hourCounts) {
+            int total = totals.get(count.getUserId());
+            if (count.getHour() < 0 || count.getHour() > 23 || count.getTxCount() < total * activeHourMinShare) {
+                continue;
+            }
+            int syncHour = (count.getHour() + 1) % 24;
+            masks.merge(count.getUserId(), 1 << syncHour, (a, b) -> a | b);
+        }
+        return masks;
+    }
+
+    private static final class DueUser {
+        private final Long userId;
+        private final CardSyncTier tier;
+        private final double overdueRatio;   // 경과 시간 / 주기 (클수록 많이 밀림)
+
+        private DueUser(Long userId, CardSyncTier tier, double overdueRatio) {
+            this.userId = userId;
+            this.tier = tier;
+            this.overdueRatio = overdueRatio;
+        }
+
+        Long userId() { return userId; }
+        CardSyncTier tier() { return tier; }
+        double overdueRatio() { return overdueRatio; }
+    }
+}
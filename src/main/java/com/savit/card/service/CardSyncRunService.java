@@ -0,0 +1,232 @@
+package com.savit.card.service;
+
+import com.savit.card.domain.CardSyncChunkStatus;
+import com.savit.card.domain.CardSyncRun;
+import com.savit.card.domain.CardSyncRunStatus;
+import com.savit.card.domain.CardSyncRunUser;
+import com.savit.card.dto.CardSyncRunStatusDTO;
+import com.savit.card.dto.UserCardSyncResult;
+import com.savit.card.mapper.CardSyncRunMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 카드 승인내역 일괄 동기화 실행 기록(ledger) 관리
+ * - 실행 시작 시 대상 사용자를 PENDING 으로 등록하고, 사용자별 결과는 모아서 일괄 반영
+ * - 서버가 중간에 내려가면 RUNNING 실행의 PENDING/SKIPPED 사용자만 다시 처리할 수 있도록 기록을 남김
+ * - 사용자는 작업 묶음(chunk)으로 나누고, 각 서버는 공용 MySQL 에서 묶음을 임대(lease)해서 자기 몫만 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CardSyncRunService {
+
+    private static final int BATCH_INSERT_SIZE = 500;
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final int RECENT_ERROR_LIMIT = 20;
+
+    private final CardSyncRunMapper cardSyncRunMapper;
+
+    // 작업 묶음 하나에 들어갈 사용자 수 (서버들은 묶음 단위로 나눠 가짐)
+    @Value("${card-sync.chunk.size:200}")
+    private int chunkSize;
+
+    // 작업 묶음 임대 시간 (초) - 서버가 죽으면 이 시간 뒤에 다른 서버가 가져감
+    @Value("${card-sync.chunk.lease-seconds:300}")
+    private long leaseSeconds;
+
+    // 결과를 몇 건 모아서 반영할지
+    @Value("${card-sync.ledger.flush-size:50}")
+    private int flushSize;
+
+    // 건수가 안 차도 이 시간이 지나면 반영 (ms)
+    @Value("${card-sync.ledger.flush-millis:5000}")
+    private long flushMillis;
+
+    // 아직 DB에 반영하지 않은 사용자별 결과
+    private final Queue<CardSyncRunUser> pendingResults = new ConcurrentLinkedQueue<>();
+    private volatile long lastFlushMillis = System.currentTimeMillis();
+
+    /**
+     * 새 실행 기록 생성 - 같은 runKey 실행을 다른 서버가 먼저 만들었으면 그 실행에 참여
+     * 사용자는 user_id % chunkCount 로 작업 묶음에 나눠서 등록
+     */
+    @Transactional
+    public CardSyncRun startOrJoinRun(String runKey, List<Long> userIds) {
+        int chunkCount = Math.max(1, (userIds.size() + chunkSize - 1) / chunkSize);
+        CardSyncRun run = CardSyncRun.builder()
+                .runKey(runKey)
+                .status(CardSyncRunStatus.RUNNING)
+                .totalUsers(userIds.size())
+                .chunkCount(chunkCount)
+                .startedAt(LocalDateTime.now())
+                .build();
+        try {
+            cardSyncRunMapper.insertRun(run);
+        } catch (DuplicateKeyException e) {
+            CardSyncRun existing = cardSyncRunMapper.findRunByKey(runKey);
+            log.info("다른 서버가 시작한 카드 동기화 실행에 참여 - runId: {}, runKey: {}", existing.getId(), runKey);
+            return existing;
+        }
+
+        for (int from = 0; from < userIds.size(); from += BATCH_INSERT_SIZE) {
+            cardSyncRunMapper.insertRunUsers(run.getId(), chunkCount,
+                    userIds.subList(from, Math.min(from + BATCH_INSERT_SIZE, userIds.size())));
+        }
+        cardSyncRunMapper.insertChunks(run.getId(),
+                IntStream.range(0, chunkCount).boxed().collect(Collectors.toList()));
+        log.info("카드 동기화 실행 기록 생성 - runId: {}, runKey: {}, 대상: {}명, 작업 묶음: {}개",
+                run.getId(), runKey, userIds.size(), chunkCount);
+        return run;
+    }
+
+    /**
+     * 사용자 1명의 처리 결과 기록 - flushSize 건이 모이거나 flushMillis 가 지나면 일괄 반영
+     * 동기화 작업 스레드에서 호출되므로 기록 실패가 동기화를 멈추지 않도록 예외는 로그만 남김
+     */
+    public void record(Long runId, int chunkNo, UserCardSyncResult result) {
+        String error = result.getErrorMessage();
+        pendingResults.add(CardSyncRunUser.builder()
+                .runId(runId)
+                .userId(result.getUserId())
+                .chunkNo(chunkNo)
+                .status(result.getStatus())
+                .durationMillis(result.getElapsedMillis())
+                .newRowCount(result.getNewApprovalCount())
+                .lastError(error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error)
+                .build());
+
+        if (pendingResults.size() >= flushSize || System.currentTimeMillis() - lastFlushMillis >= flushMillis) {
+            flush();
+        }
+    }
+
+    /**
+     * 모아둔 결과를 DB에 반영
+     */
+    public synchronized void flush() {
+        lastFlushMillis = System.currentTimeMillis();
+        List<CardSyncRunUser> batch = new ArrayList<>();
+        CardSyncRunUser result;
+        while ((result = pendingResults.poll()) != null) {
+            batch.add(result);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            cardSyncRunMapper.upsertRunUserResults(batch);
+        } catch (Exception e) {
+            // 반영하지 못한 사용자는 PENDING 으로 남아서 재시작 시 다시 처리됨
+            log.error("카드 동기화 실행 기록 반영 실패 - {}건", batch.size(), e);
+        }
+    }
+
+    /**
+     * 남은 작업 묶음이 없으면 실행 완료 처리 (여러 서버가 호출해도 결과는 같음)
+     * @return 실행이 완료됐으면 true
+     */
+    public boolean finishRunIfDone(Long runId) {
+        flush();
+        if (cardSyncRunMapper.countOpenChunks(runId) > 0) {
+            return false;
+        }
+        cardSyncRunMapper.updateRunStatus(runId, CardSyncRunStatus.COMPLETED);
+        log.info("카드 동기화 실행 완료 - runId: {}", runId);
+        return true;
+    }
+
+    /**
+     * 이어서 실행할 중단된 실행 조회
+     * 가장 최근 RUNNING 실행이 maxAgeHours 안에 시작됐으면 재개 대상으로 반환하고,
+     * 그보다 오래됐거나 더 예전 RUNNING 실행은 다음 정기 실행이 대신 처리하므로 ABANDONED 처리
+     */
+    public Optional<CardSyncRun> findResumableRun(long maxAgeHours) {
+        List<CardSyncRun> runningRuns = cardSyncRunMapper.findRunningRuns();
+        LocalDateTime threshold = LocalDateTime.now().minusHours(maxAgeHours);
+
+        CardSyncRun resumable = null;
+        for (CardSyncRun run : runningRuns) {
+            if (resumable == null && run.getStartedAt().isAfter(threshold)) {
+                resumable = run;
+            } else {
+                cardSyncRunMapper.updateRunStatus(run.getId(), CardSyncRunStatus.ABANDONED);
+                log.info("오래된 카드 동기화 실행 종료 처리 - runId: {}, 시작: {}", run.getId(), run.getStartedAt());
+            }
+        }
+        if (resumable != null) {
+            cardSyncRunMapper.incrementResumeCount(resumable.getId());
+        }
+        return Optional.ofNullable(resumable);
+    }
+
+    /**
+     * 가져갈 수 있는 작업 묶음 하나를 임대 (없으면 empty)
+     * 다른 서버와 동시에 같은 묶음을 노리면 조건부 UPDATE 가 한 서버만 성공시킴
+     * @param excludedChunkNos 이 서버가 가져가면 안 되는 묶음 (반납했지만 작업이 아직 실행 중인 묶음)
+     */
+    public Optional<Integer> claimChunk(Long runId, String nodeId, Set<Integer> excludedChunkNos) {
+        for (Integer chunkNo : cardSyncRunMapper.findClaimableChunkNos(runId, nodeId)) {
+            if (excludedChunkNos.contains(chunkNo)) {
+                continue;
+            }
+            if (cardSyncRunMapper.claimChunk(runId, chunkNo, nodeId, leaseSeconds) == 1) {
+                return Optional.of(chunkNo);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 임대 연장 - 이미 다른 서버로 넘어갔으면 false
+     */
+    public boolean renewChunkLease(Long runId, int chunkNo, String nodeId) {
+        return cardSyncRunMapper.renewChunkLease(runId, chunkNo, nodeId, leaseSeconds) == 1;
+    }
+
+    public List<Long> findUnfinishedUserIds(Long runId, int chunkNo) {
+        return cardSyncRunMapper.findUnfinishedUserIds(runId, chunkNo);
+    }
+
+    /**
+     * 작업 묶음 처리 완료
+     */
+    public void completeChunk(Long runId, int chunkNo, String nodeId) {
+        flush();
+        cardSyncRunMapper.updateChunkStatus(runId, chunkNo, nodeId, CardSyncChunkStatus.DONE);
+    }
+
+    /**
+     * 작업 묶음 반납 - 끝나지 않은 사용자는 다른 서버(또는 다음 시도)가 처리
+     */
+    public void releaseChunk(Long runId, int chunkNo, String nodeId) {
+        flush();
+        cardSyncRunMapper.updateChunkStatus(runId, chunkNo, nodeId, CardSyncChunkStatus.PENDING);
+    }
+
+    /**
+     * 가장 최근 실행 현황 (실행 기록이 없으면 null)
+     */
+    public CardSyncRunStatusDTO getLatestRunStatus() {
+        CardSyncRunStatusDTO status = cardSyncRunMapper.findLatestRunStatus();
+        if (status != null) {
+            status.setRecentErrors(cardSyncRunMapper.findRecentErrors(status.getRunId(), RECENT_ERROR_LIMIT));
+        }
+        return status;
+    }
+}
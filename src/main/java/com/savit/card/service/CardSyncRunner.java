@@ -0,0 +1,251 @@
+package com.savit.card.service;
+
+import com.savit.card.domain.CardSyncRun;
+import com.savit.card.domain.CardSyncRunStatus;
+import com.savit.card.dto.CardSyncReport;
+import com.savit.common.util.ServerNodeId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 카드 승인내역 일괄 동기화 실행기
+ * - 실행 기록(CardSyncRunService)을 남기면서 CardSyncDispatcher 로 사용자별 작업을 분배
+ * - 여러 서버가 같은 실행에 참여하고, 각 서버는 작업 묶음을 하나씩 임대해서 자기 몫만 처리
+ *   (별도 코디네이터 없이 공용 MySQL 만 사용, 서버 수만큼 처리량이 늘어남)
+ * - 죽은 서버의 묶음은 임대가 만료되면 남은 서버가 가져가서 끝나지 않은 사용자만 처리
+ * - 임대 연장은 묶음마다 전용 스케줄러(cardSyncLeaseScheduler)에 등록해서, @Scheduled 스레드가 모두 바빠도 밀리지 않음
+ * - 서버 시작 시 중단된 실행이 있으면 다시 참여 (재시작으로 Codef 호출이 두 배가 되지 않도록)
+ * - 한 서버에서 동시에 두 실행이 돌지 않도록 막음
+ * - 미완료 사용자가 있는 묶음은 실행 중인 작업이 끝나기를 기다린 뒤 반납하고,
+ *   기다려도 끝나지 않은 묶음은 이 서버가 다시 가져가지 않음 (같은 사용자를 두 번 동시에 처리하지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CardSyncRunner {
+
+    private final CardSyncDispatcher cardSyncDispatcher;
+    private final CardSyncRunService cardSyncRunService;
+    private final ServerNodeId serverNodeId;
+    @Qualifier("cardSyncLeaseScheduler")
+    private final TaskScheduler cardSyncLeaseScheduler;
+
+    // 이 시간보다 오래된 중단 실행은 재개하지 않음 (다음 정기 실행이 대신 처리)
+    @Value("${card-sync.resume-max-age-hours:6}")
+    private long resumeMaxAgeHours;
+
+    // 다른 서버가 잡고 있는 묶음이 끝나기를 기다릴 최대 시간 (분)
+    @Value("${card-sync.chunk.wait-minutes:60}")
+    private long chunkWaitMinutes;
+
+    // 가져갈 묶음이 없을 때 다시 확인하는 간격 (ms)
+    @Value("${card-sync.chunk.poll-millis:30000}")
+    private long chunkPollMillis;
+
+    // 묶음 반납 전에 실행 중인 작업이 끝나기를 기다릴 최대 시간 (분)
+    @Value("${card-sync.chunk.in-flight-wait-minutes:10}")
+    private long inFlightWaitMinutes;
+
+    // 처리 중인 묶음의 임대 연장 간격 (임대 시간보다 충분히 짧게)
+    @Value("${card-sync.chunk.renew-millis:60000}")
+    private long renewMillis;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /**
+     * 실행 시작 또는 다른 서버가 먼저 시작한 같은 실행에 참여 - 이 서버에서 다른 실행이 진행 중이면 empty
+     * @return 이 서버가 처리한 묶음들의 리포트 합계
+     */
+    public Optional<CardSyncReport> run(String runKey, List<Long> userIds) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("이전 카드 동기화 실행이 아직 진행 중입니다 - runKey: {} 건너뜀", runKey);
+            return Optional.empty();
+        }
+        try {
+            CardSyncRun run = cardSyncRunService.startOrJoinRun(runKey, userIds);
+            if (run.getStatus() != CardSyncRunStatus.RUNNING) {
+                log.info("이미 끝난 카드 동기화 실행입니다 - runId: {}, 상태: {}", run.getId(), run.getStatus());
+                return Optional.empty();
+            }
+            return Optional.of(processChunks(run));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 서버 시작 시 중단된 실행에 다시 참여 (루트 컨텍스트 초기화 완료 후 한 번, 비동기로)
+     */
+    @Async
+    @EventListener
+    public void resumeInterruptedRun(ContextRefreshedEvent event) {
+        if (event.getApplicationContext().getParent() != null) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            Optional<CardSyncRun> resumable = cardSyncRunService.findResumableRun(resumeMaxAgeHours);
+            if (resumable.isEmpty()) {
+                return;
+            }
+
+            CardSyncRun run = resumable.get();
+            log.info("중단된 카드 동기화 실행 재개 - runId: {}, runKey: {}, 전체: {}명",
+                    run.getId(), run.getRunKey(), run.getTotalUsers());
+            processChunks(run);
+
+        } catch (Exception e) {
+            log.error("중단된 카드 동기화 실행 재개 실패", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 처리 중인 묶음의 임대 연장 (cardSyncLeaseScheduler 전용 스레드에서 실행)
+    private void renewChunkLease(CardSyncRun run, int chunkNo) {
+        try {
+            if (!cardSyncRunService.renewChunkLease(run.getId(), chunkNo, serverNodeId.get())) {
+                log.warn("카드 동기화 작업 묶음 임대를 잃었습니다 - runId: {}, chunk: {}", run.getId(), chunkNo);
+            }
+        } catch (Exception e) {
+            log.error("카드 동기화 작업 묶음 임대 연장 실패 - runId: {}, chunk: {}", run.getId(), chunkNo, e);
+        }
+    }
+
+    // 가져갈 묶음이 없어질 때까지 하나씩 임대해서 처리하고,
+    // 다른 서버가 잡고 있는 묶음이 남아 있으면 그 서버가 죽었을 때를 대비해 임대 만료를 기다림
+    private CardSyncReport processChunks(CardSyncRun run) {
+        long startedAt = System.currentTimeMillis();
+        long deadline = startedAt + TimeUnit.MINUTES.toMillis(chunkWaitMinutes);
+        List<CardSyncReport> reports = new ArrayList<>();
+        // 반납했지만 작업이 아직 실행 중인 묶음
+        Set<Integer> busyChunkNos = new HashSet<>();
+
+        while (true) {
+            if (System.currentTimeMillis() >= deadline) {
+                log.warn("카드 동기화 실행 {} - {}분이 지나 더 이상 작업 묶음을 가져가지 않습니다.", run.getId(), chunkWaitMinutes);
+                break;
+            }
+            Optional<Integer> claimed = cardSyncRunService.claimChunk(run.getId(), serverNodeId.get(), busyChunkNos);
+            if (claimed.isPresent()) {
+                reports.add(processChunk(run, claimed.get(), busyChunkNos));
+                continue;
+            }
+
+            if (cardSyncRunService.finishRunIfDone(run.getId())) {
+                break;
+            }
+            if (System.currentTimeMillis() + chunkPollMillis >= deadline) {
+                log.warn("카드 동기화 실행 {} - 다른 서버의 작업 묶음이 {}분 안에 끝나지 않아 대기를 멈춥니다.", run.getId(), chunkWaitMinutes);
+                break;
+            }
+            try {
+                Thread.sleep(chunkPollMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        return merge(reports, System.currentTimeMillis() - startedAt);
+    }
+
+    private CardSyncReport processChunk(CardSyncRun run, int chunkNo, Set<Integer> busyChunkNos) {
+        ScheduledFuture<?> leaseRenewal = cardSyncLeaseScheduler.scheduleWithFixedDelay(
+                () -> renewChunkLease(run, chunkNo),
+                Instant.now().plusMillis(renewMillis), Duration.ofMillis(renewMillis));
+        try {
+            List<Long> userIds = cardSyncRunService.findUnfinishedUserIds(run.getId(), chunkNo);
+            log.info("카드 동기화 작업 묶음 처리 시작 - runId: {}, chunk: {}, 사용자: {}명, node: {}",
+                    run.getId(), chunkNo, userIds.size(), serverNodeId.get());
+
+            CardSyncReport report = cardSyncDispatcher.dispatch(userIds,
+                    result -> cardSyncRunService.record(run.getId(), chunkNo, result));
+
+            // 제한 시간 안에 끝나지 않은 사용자가 있으면 반납해서 다시 처리되도록 함
+            // 반납 전에 실행 중인 작업을 기다리고 (그동안 임대는 계속 연장), 끝나지 않았으면 이 서버는 다시 가져가지 않음
+            if (report.getUnfinishedUsers() == 0) {
+                cardSyncRunService.completeChunk(run.getId(), chunkNo, serverNodeId.get());
+            } else {
+                boolean drained = awaitInFlight(report);
+                cardSyncRunService.releaseChunk(run.getId(), chunkNo, serverNodeId.get());
+                if (!drained) {
+                    busyChunkNos.add(chunkNo);
+                }
+                log.warn("카드 동기화 작업 묶음 미완료 사용자 {}명 - runId: {}, chunk: {} 반납 (실행 중인 작업 종료: {})",
+                        report.getUnfinishedUsers(), run.getId(), chunkNo, drained);
+            }
+            return report;
+        } finally {
+            leaseRenewal.cancel(false);
+        }
+    }
+
+    // 실행 중인 작업이 inFlightWaitMinutes 안에 모두 끝나면 true
+    private boolean awaitInFlight(CardSyncReport report) {
+        try {
+            report.getInFlight().get(inFlightWaitMinutes, TimeUnit.MINUTES);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private CardSyncReport merge(List<CardSyncReport> reports, long elapsedMillis) {
+        List<Long> failedUserIds = new ArrayList<>();
+        List<Long> skippedUserIds = new ArrayList<>();
+        int total = 0, succeeded = 0, failed = 0, skipped = 0, unfinished = 0, withNewTransactions = 0;
+        for (CardSyncReport report : reports) {
+            total += report.getTotalUsers();
+            succeeded += report.getSucceededUsers();
+            failed += report.getFailedUsers();
+            skipped += report.getSkippedUsers();
+            unfinished += report.getUnfinishedUsers();
+            withNewTransactions += report.getNewTransactionUsers();
+            failedUserIds.addAll(report.getFailedUserIds());
+            skippedUserIds.addAll(report.getSkippedUserIds());
+        }
+
+        return CardSyncReport.builder()
+                .totalUsers(total)
+                .succeededUsers(succeeded)
+                .failedUsers(failed)
+                .skippedUsers(skipped)
+                .unfinishedUsers(unfinished)
+                .newTransactionUsers(withNewTransactions)
+                .elapsedMillis(elapsedMillis)
+                .failedUserIds(failedUserIds)
+                .skippedUserIds(skippedUserIds)
+                .inFlight(CompletableFuture.allOf(reports.stream()
+                        .map(CardSyncReport::getInFlight)
+                        .toArray(CompletableFuture<?>[]::new)))
+                .build();
+    }
+}
@@ -1,7 +1,8 @@
 package com.savit.card.service;
 
 import com.savit.budget.domain.CategoryVO;
-import com.savit.budget.mapper.CategoryMapper;
+import com.savit.budget.service.CategoryCache;
+import com.savit.card.domain.CardApproval;
 import com.savit.card.domain.CardTransactionVO;
 import com.savit.card.dto.CardTransactionDto;
 import com.savit.card.dto.ManualCategoryRequest;
@@ -9,56 +10,39 @@ import com.savit.card.mapper.CardTransactionMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CardTransactionService {
 
+    // 일괄 카테고리 UPDATE 한 번에 보낼 최대 건수
+    private static final int BATCH_UPDATE_SIZE = 500;
+
     private final CardTransactionMapper cardTransactionMapper;
-    private final CategoryMapper categoryMapper;
-
-    private static final Map<String, List<String>> NAME_KEYWORDS = Map.ofEntries(
-            Map.entry("식당", List.of("일반음식점", "패스트푸드", "맥도날드", "일반", "김밥", "한솥", "맘스터치", "본죽", "삼겹살", "국밥", "쌀국수", "고기", "마라탕", "우동", "돈까스", "비빔밥", "분식")),
-            Map.entry("카페", List.of("스타벅스", "이디야", "컴포즈", "투썸", "커피", "베스킨", "메가", "폴바셋", "할리스", "블루보틀")),
-            Map.entry("배달", List.of("배달의민족", "요기요", "쿠팡이츠", "땡겨요", "배달앱", "배달전문", "배민", "우아한형제")),
-            Map.entry("대중교통", List.of("버스", "지하철", "티머니", "교통카드", "환승", "대중교통")),
-            Map.entry("택시", List.of("카카오택시", "타다", "마카롱택시", "온다", "우버", "택시")),
-            Map.entry("통신비", List.of("SKT", "KT", "LGU+", "알뜰폰", "요금", "통신사")),
-            Map.entry("공과금", List.of("전기", "수도", "도시가스", "지역난방", "공공요금", "한전")),
-            Map.entry("편의점/마트", List.of("GS25", "CU", "세븐일레븐", "이마트24", "다이소", "홈플러스", "롯데마트", "이마트", "마트")),
-            Map.entry("공연", List.of("예술의전당", "뮤지컬", "콘서트", "연극", "공연", "티켓링크", "인터파크티켓")),
-            Map.entry("쇼핑", List.of("쿠팡", "11번가", "지마켓", "G마켓", "SSG", "롯데ON", "네이버쇼핑", "마켓컬리")),
-            Map.entry("유흥", List.of("술집", "호프", "포차", "맥주", "노래방", "주점")),
-            Map.entry("의료비", List.of("병원", "약국", "치과", "한의원", "병원비", "이비인후과", "내과", "안과", "정형외과", "피부과", "정신과", "의원")),
-            Map.entry("교육", List.of("학원", "온라인강의", "인강", "과외", "교육비", "수강료", "토익", "자격증", "공부")),
-            Map.entry("정기구독", List.of("넷플릭스", "netflix", "디즈니플러스", "disney", "왓챠", "유튜브프리미엄", "yt", "멜론", "벅스", "지니뮤직", "정기결제", "구독", "openai", "gpt", "youtube")),
-            Map.entry("영화", List.of("CGV", "메가박스", "롯데시네마", "영화관", "영화티켓", "무비", "시네마"))
-    );
-
-
-    private static final Map<String, String> SAFE_STORE_TYPE_MAPPING = Map.of(
-            "택시", "택시",
-            "버스", "대중교통",
-            "지하철", "대중교통",
-            "편의점", "편의점/마트",
-            "병원", "의료비",
-            "학원", "교육",
-            "넷플릭스", "정기구독",
-            "CGV", "영화"
-    );
+    private final CategoryCache categoryCache;
+    private final MerchantClassifier merchantClassifier;
+    private final MerchantCategoryOverrideService merchantCategoryOverrideService;
+    private final DailySpendingRollupService dailySpendingRollupService;
+    private final DashboardCache dashboardCache;
 
     /**
      * 카드 승인 내역에 대해 카테고리를 자동 분류하여 업데이트
      * Codef API로 이미 저장된 승인 내역에 대해 실행되며,
      * cardId + 사용일자 + 사용시간 기준으로 해당 거래를 찾아 category/budget_category를 update 함
      */
+    @Transactional
     public void autoClassifyTransaction(CardTransactionDto dto) {
         Long userId = dto.getUserId();
-        CategoryVO category = classifyCategory(dto.getResMemberStoreName(), dto.getResMemberStoreType());
+        Long categoryId = resolveCategoryId(userId, dto.getResMemberStoreName(), dto.getResMemberStoreType());
 
         Long transactionId = cardTransactionMapper.findTransactionIdByCardIdAndDateTime(
                 userId, dto.getCardId(), dto.getResUsedDate(), dto.getResUsedTime()
@@ -70,10 +54,26 @@ public class CardTransactionService {
             return;
         }
 
-        cardTransactionMapper.updateCategory(transactionId, category.getId());
+        cardTransactionMapper.updateCategory(transactionId, categoryId);
+        dailySpendingRollupService.refresh(dto.getCardId(), Collections.singletonList(dto.getResUsedDate()));
+        dashboardCache.invalidate(userId);
+    }
+
+    /**
+     * 저장 전 승인내역의 카테고리를 미리 분류
+     * 분류 결과를 category_id 에 채운 새 객체 목록을 반환
+     */
+    public List<CardApproval> classifyApprovals(Long userId, List<CardApproval> approvals) {
+        return approvals.stream()
+                .map(approval -> approval.toBuilder()
+                        .categoryId(resolveCategoryId(userId, approval.getResMemberStoreName(),
+                                approval.getResMemberStoreType()))
+                        .build())
+                .collect(Collectors.toList());
     }
 
-    // 수동 카테고리 지정
+    // 수동 카테고리 지정 - 가맹점 보정값으로 학습하고 같은 가맹점의 과거 미분류 거래도 재지정
+    @Transactional
     public void updateCategory(ManualCategoryRequest req) {
         Long userId = req.getUserId();
         Long transactionId = req.getTransactionId();
@@ -83,70 +83,94 @@ public class CardTransactionService {
             throw new SecurityException("해당 거래는 사용자 소유가 아닙니다.");
         }
 
-        CategoryVO category = categoryMapper.findById(categoryId);
+        CategoryVO category = categoryCache.findById(categoryId);
         if (category == null) {
             throw new IllegalArgumentException("해당 카테고리 ID를 찾을 수 없습니다: " + categoryId);
         }
 
         cardTransactionMapper.updateCategory(transactionId, categoryId);
+
+        CardTransactionVO transaction = cardTransactionMapper.findById(transactionId);
+        if (transaction != null) {
+            dailySpendingRollupService.refresh(transaction.getCardId(), Collections.singletonList(transaction.getResUsedDate()));
+        }
+        dashboardCache.invalidate(userId);
+        String storeName = transaction != null ? transaction.getResMemberStoreName() : null;
+        if (storeName != null && !storeName.isBlank()) {
+            merchantCategoryOverrideService.learn(userId, storeName, categoryId);
+            retagAfterCommit(userId, storeName, categoryId);
+        }
     }
 
-    // 자동 재분류
+    // 과거 거래 재지정은 커밋 후에 시작 (커밋 전에 돌면 이번 수정/보정값을 못 보고, 롤백돼도 재지정이 남음)
+    private void retagAfterCommit(Long userId, String storeName, Long categoryId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    merchantCategoryOverrideService.retagUncategorizedAsync(userId, storeName, categoryId);
+                }
+            });
+        } else {
+            merchantCategoryOverrideService.retagUncategorizedAsync(userId, storeName, categoryId);
+        }
+    }
+
+    // 자동 재분류 - 분류 결과를 모아 일괄 UPDATE (지출 집계도 같은 트랜잭션에서 갱신)
+    @Transactional
     public int reclassifyUncategorizedTransactions(Long userId) {
         log.info("사용자 {}의 미분류 거래 조회 시작", userId);
         List<CardTransactionVO> transactions = cardTransactionMapper.findUnclassifiedTransactionsByUser(userId);
         log.info("미분류 거래 조회 결과: {}건", transactions.size());
-        int updatedCount = 0;
+
+        List<CardTransactionVO> classified = new ArrayList<>(transactions.size());
 
         for (CardTransactionVO tx : transactions) {
             try {
-                CategoryVO category = classifyCategory(tx.getResMemberStoreName(), tx.getResMemberStoreType());
-                cardTransactionMapper.updateCategory(tx.getId(), category.getId());
-                updatedCount++;
+                tx.setCategoryId(resolveCategoryId(userId, tx.getResMemberStoreName(), tx.getResMemberStoreType()));
+                classified.add(tx);
             } catch (Exception e) {
                 log.warn("자동 분류 실패 - txId: {}, error: {}", tx.getId(), e.getMessage());
             }
         }
 
+        int updatedCount = updateCategoriesInBatches(classified);
+        dailySpendingRollupService.refresh(classified, CardTransactionVO::getCardId, CardTransactionVO::getResUsedDate);
+        if (updatedCount > 0) {
+            dashboardCache.invalidate(userId);
+        }
         return updatedCount;
     }
 
-
-    // 분류 로직
-    private CategoryVO classifyCategory(String storeName, String storeType) {
-        if (storeName != null && !storeName.isBlank()) {
-            String normalized = normalize(storeName);
-            for (Map.Entry<String, List<String>> entry : NAME_KEYWORDS.entrySet()) {
-                for (String keyword : entry.getValue()) {
-                    if (normalized.contains(keyword.toLowerCase())) {
-                        return getCategoryOrThrow(entry.getKey());
-                    }
-                }
-            }
+    private int updateCategoriesInBatches(List<CardTransactionVO> transactions) {
+        int updatedCount = 0;
+        for (int from = 0; from < transactions.size(); from += BATCH_UPDATE_SIZE) {
+            List<CardTransactionVO> chunk =
+                    transactions.subList(from, Math.min(from + BATCH_UPDATE_SIZE, transactions.size()));
+            updatedCount += cardTransactionMapper.updateCategories(chunk);
         }
+        return updatedCount;
+    }
 
-        if (storeType != null && !storeType.isBlank()) {
-            for (Map.Entry<String, String> entry : SAFE_STORE_TYPE_MAPPING.entrySet()) {
-                if (storeType.contains(entry.getKey())) {
-                    return getCategoryOrThrow(entry.getValue());
-                }
-            }
+    /**
+     * 카테고리 ID 결정 - 가맹점 보정값(사용자 → 공통)을 먼저 보고, 없으면 분류기 결과 사용
+     */
+    private Long resolveCategoryId(Long userId, String storeName, String storeType) {
+        Long overrideCategoryId = merchantCategoryOverrideService.findCategoryId(userId, storeName);
+        if (overrideCategoryId != null) {
+            return overrideCategoryId;
         }
 
-        return getCategoryOrThrow("기타");
+        String categoryName = merchantClassifier.classify(storeName, storeType);
+        return getCategoryOrThrow(categoryName).getId();
     }
 
     // 카테고리명으로 조회 실패 시 예외
     private CategoryVO getCategoryOrThrow(String name) {
-        CategoryVO category = categoryMapper.findByName(name);
+        CategoryVO category = categoryCache.findByName(name);
         if (category == null) {
             throw new IllegalStateException("'" + name + "' 카테고리가 DB에 존재하지 않습니다.");
         }
         return category;
     }
-
-    // 상호명 전처리
-    private String normalize(String text) {
-        return text.replaceAll("[^가-힣a-zA-Z0-9]", "").toLowerCase();
-    }
 }
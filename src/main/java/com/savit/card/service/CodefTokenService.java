@@ -7,11 +7,22 @@ import io.codef.api.EasyCodef;
 import io.codef.api.EasyCodefServiceType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Codef 액세스 토큰 관리
+ * - 유효한 토큰은 메모리에 캐시해서 Codef 호출마다 DB를 조회하지 않음
+ * - 만료 refreshBeforeMinutes 전부터는 미리 갱신 (갱신 실패 시 아직 유효한 기존 토큰 사용)
+ * - 갱신은 한 스레드만 수행하고, 나머지 스레드는 같은 CompletableFuture 결과를 기다림 (single-flight)
+ * - 갱신할 때는 먼저 DB를 다시 읽어서 다른 서버가 이미 발급한 토큰이 있으면 그대로 사용
+ * - Codef 가 거절한 토큰은 DB 에서 아직 유효해 보여도 다시 쓰지 않고 새로 발급
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -20,20 +31,102 @@ public class CodefTokenService {
     private final CodefTokenRepository tokenRepository;
     private final CodefUtil codefUtil;
 
-    @Transactional
+    // 만료 몇 분 전부터 미리 갱신할지
+    @Value("${codef.token.refresh-before-minutes:60}")
+    private long refreshBeforeMinutes;
+
+    private volatile CodefToken cachedToken;
+
+    // Codef 가 마지막으로 거절한 토큰
+    private volatile String rejectedToken;
+
+    // 진행 중인 갱신 작업 (없으면 null)
+    private final AtomicReference<CompletableFuture<CodefToken>> inFlightRefresh = new AtomicReference<>();
+
     public String getAccessToken() {
+        CodefToken cached = cachedToken;
+        if (cached != null && !needsRefresh(cached)) {
+            return cached.getAccessToken();
+        }
+
+        try {
+            return refresh().getAccessToken();
+        } catch (RuntimeException e) {
+            // 미리 갱신하다 실패했으면 아직 만료되지 않은 기존 토큰으로 계속 진행
+            if (cached != null && cached.getExpiresAt().isAfter(LocalDateTime.now())) {
+                log.warn("CODEF 토큰 사전 갱신 실패 - 기존 토큰 사용 (만료 {})", cached.getExpiresAt(), e);
+                return cached.getAccessToken();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Codef가 토큰 오류를 반환했을 때 캐시 무효화 (다음 호출에서 다시 조회/발급)
+     */
+    public void invalidate(String accessToken) {
+        if (accessToken == null) {
+            return;
+        }
+        rejectedToken = accessToken;
+        CodefToken cached = cachedToken;
+        if (cached != null && cached.getAccessToken().equals(accessToken)) {
+            cachedToken = null;
+            log.info("CODEF 토큰 캐시 무효화");
+        }
+    }
+
+    // 한 스레드만 DB 재조회/발급을 수행하고, 동시에 들어온 스레드는 같은 결과를 기다림
+    private CodefToken refresh() {
+        CompletableFuture<CodefToken> future = new CompletableFuture<>();
+        CompletableFuture<CodefToken> existing = inFlightRefresh.compareAndExchange(null, future);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            CodefToken token = loadOrIssueToken();
+            cachedToken = token;
+            future.complete(token);
+            return token;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightRefresh.set(null);
+        }
+    }
+
+    private CodefToken await(CompletableFuture<CodefToken> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    // DB에 아직 충분히 유효한 토큰이 있으면 그대로 쓰고 (다른 서버가 먼저 갱신한 경우 포함), 없으면 새로 발급
+    private CodefToken loadOrIssueToken() {
         return tokenRepository.findValidToken()
-                .map(CodefToken::getAccessToken)
+                .filter(token -> !needsRefresh(token))
+                .filter(token -> !token.getAccessToken().equals(rejectedToken))
                 .orElseGet(this::issueAndSaveToken);
     }
 
-    private String issueAndSaveToken() {
+    private boolean needsRefresh(CodefToken token) {
+        return token.getExpiresAt() == null
+                || !LocalDateTime.now().plusMinutes(refreshBeforeMinutes).isBefore(token.getExpiresAt());
+    }
+
+    private CodefToken issueAndSaveToken() {
 
         try {
             EasyCodef client = codefUtil.newClient();
 
             String accessToken = client.requestToken(EasyCodefServiceType.DEMO);
-            log.info("[CODEF] accessToken = '{}'", accessToken);
 
             if (accessToken == null || accessToken.isBlank()) {
                 throw new IllegalStateException("CODEF 토큰 발급 실패 (빈 토큰)");
@@ -42,15 +135,16 @@ public class CodefTokenService {
             LocalDateTime now = LocalDateTime.now();
             LocalDateTime expiresAt = now.plusWeeks(1);
 
-            tokenRepository.save(CodefToken.builder()
+            CodefToken token = CodefToken.builder()
                     .accessToken(accessToken)
                     .expiresAt(expiresAt)
                     .createdAt(now)
                     .updatedAt(now)
-                    .build());
+                    .build();
+            tokenRepository.save(token);
 
             log.info("새 CODEF 토큰 저장완료 (만료 {} )", expiresAt);
-            return accessToken;
+            return token;
 
         } catch (Exception e) {
             log.error("CODEF 토큰 발급 중 오류", e);
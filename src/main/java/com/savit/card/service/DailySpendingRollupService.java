@@ -0,0 +1,122 @@
+package com.savit.card.service;
+
+import com.savit.card.domain.MonthlyUsageSnapshot;
+import com.savit.card.dto.MonthlyUsageDTO;
+import com.savit.card.mapper.DailySpendingRollupMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 일자별 지출 집계(DailySpendingRollup) 관리
+ * - 거래 저장/카테고리 변경 시 호출한 쪽 트랜잭션 안에서 바뀐 카드-일자만 원본 거래로 다시 계산
+ *   (INSERT IGNORE 로 실제 저장된 건수와 상관없이 항상 원본과 일치)
+ * - 대시보드/챌린지 조건/일일 최고 지출 조회는 원본 거래 대신 이 집계를 읽음
+ * - 다시 계산한 일자가 이미 마감된 월이면 그 월 스냅샷도 지움 (MonthlyUsageSnapshotService.invalidate)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailySpendingRollupService {
+
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final DailySpendingRollupMapper dailySpendingRollupMapper;
+    private final MonthlyUsageSnapshotService monthlyUsageSnapshotService;
+
+    /**
+     * 카드의 지정한 일자(yyyyMMdd) 집계 다시 계산
+     */
+    @Transactional
+    public void refresh(Long cardId, Collection<String> usedDates) {
+        Set<String> dates = new TreeSet<>();
+        for (String usedDate : usedDates) {
+            if (usedDate != null && usedDate.length() == 8) {
+                dates.add(usedDate);
+            }
+        }
+        if (cardId == null || dates.isEmpty()) {
+            return;
+        }
+        dailySpendingRollupMapper.deleteCardDays(cardId, dates);
+        dailySpendingRollupMapper.insertCardDays(cardId, dates);
+
+        Set<YearMonth> months = new TreeSet<>();
+        for (String date : dates) {
+            months.add(YearMonth.parse(date.substring(0, 6), MONTH_FORMATTER));
+        }
+        monthlyUsageSnapshotService.invalidate(cardId, months);
+    }
+
+    /**
+     * 거래 목록이 속한 카드-일자 집계 다시 계산
+     */
+    @Transactional
+    public <T> void refresh(Collection<T> transactions, Function<T, Long> cardIdOf, Function<T, String> usedDateOf) {
+        Map<Long, Set<String>> datesByCard = new HashMap<>();
+        for (T transaction : transactions) {
+            Long cardId = cardIdOf.apply(transaction);
+            if (cardId != null) {
+                datesByCard.computeIfAbsent(cardId, id -> new HashSet<>()).add(usedDateOf.apply(transaction));
+            }
+        }
+        datesByCard.forEach(this::refresh);
+    }
+
+    /**
+     * 카드 1장의 집계를 원본 거래에서 전부 다시 계산 (재계산 작업용, 카드 단위 트랜잭션)
+     */
+    @Transactional
+    public int rebuildCard(Long cardId) {
+        dailySpendingRollupMapper.deleteCard(cardId);
+        return dailySpendingRollupMapper.insertCard(cardId);
+    }
+
+    public List<Long> findAllCardIds() {
+        return dailySpendingRollupMapper.findAllCardIds();
+    }
+
+    /**
+     * 사용자의 해당 월 / 전월 지출 합계
+     */
+    public MonthlyUsageDTO getMonthlyUsage(Long userId, YearMonth month) {
+        return getMonthlyUsage(userId, month, true);
+    }
+
+    /**
+     * 사용자의 해당 월 지출 합계 (includeLastMonth 가 false 면 해당 월 범위만 읽고 전월은 0)
+     */
+    public MonthlyUsageDTO getMonthlyUsage(Long userId, YearMonth month, boolean includeLastMonth) {
+        LocalDate fromDate = includeLastMonth ? month.minusMonths(1).atDay(1) : month.atDay(1);
+        MonthlyUsageDTO usage = dailySpendingRollupMapper.sumMonthlyNetAmountsByUser(
+                userId, fromDate, month.atDay(1), month.atEndOfMonth());
+        return usage != null ? usage : new MonthlyUsageDTO();
+    }
+
+    /**
+     * 사용자의 기간(from ~ to 월) 지출 합계, 지출 없는 월은 0
+     */
+    public Map<YearMonth, BigDecimal> getNetAmountsByMonth(Long userId, YearMonth from, YearMonth to) {
+        Map<YearMonth, BigDecimal> amounts = new TreeMap<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            amounts.put(month, BigDecimal.ZERO);
+        }
+        for (MonthlyUsageSnapshot row : dailySpendingRollupMapper.sumNetAmountByUserGroupByMonth(
+                userId, from.atDay(1), to.atEndOfMonth())) {
+            amounts.put(YearMonth.parse(row.getMonth(), MONTH_FORMATTER), row.getNetAmount());
+        }
+        return amounts;
+    }
+
+    public List<Long> findUserIdsWithSpendingOn(LocalDate usedDate) {
+        return dailySpendingRollupMapper.findUserIdsWithSpendingOn(usedDate);
+    }
+}
@@ -0,0 +1,149 @@
+package com.savit.card.service;
+
+import com.savit.card.dto.DashboardDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 대시보드 메모리 캐시
+ * - 사용자 + 날짜 단위로 보관 (월이 바뀌거나 일평균 계산 기준일이 바뀌면 자동으로 다시 계산)
+ * - 승인내역 저장, 결제 웹훅 거래 저장, 카테고리 변경, 예산 변경 시 커밋 후 해당 사용자만 무효화
+ * - 같은 사용자의 동시 미스는 계산 하나로 합쳐서 결과를 같이 받음 (푸시 직후 앱 실행 몰림 대응)
+ * - 최근 사용 순으로 max-users 명까지만 보관하고, 다른 서버의 변경은 ttl-minutes 안에 반영
+ * 반환하는 DashboardDTO 는 캐시가 공유하는 객체이므로 읽기 전용으로만 사용
+ */
+@Slf4j
+@Component
+public class DashboardCache {
+
+    @Value("${dashboard.cache.max-users:10000}")
+    private int maxUsers;
+
+    @Value("${dashboard.cache.ttl-minutes:30}")
+    private long ttlMinutes;
+
+    // 진행 중인 계산을 기다리는 최대 시간
+    @Value("${dashboard.cache.wait-seconds:10}")
+    private long waitSeconds;
+
+    // 접근 순서 LinkedHashMap (LRU), entries 로 동기화
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > maxUsers;
+        }
+    };
+
+    /**
+     * 캐시된 대시보드 반환, 없으면 loader 로 계산 (동시에 들어온 요청은 같은 계산 결과를 받음)
+     */
+    public DashboardDTO get(Long userId, LocalDate today, Supplier<DashboardDTO> loader) {
+        Entry entry;
+        boolean owner = false;
+        synchronized (entries) {
+            entry = entries.get(userId);
+            if (entry == null || !entry.isValid(today, System.currentTimeMillis(), TimeUnit.MINUTES.toMillis(ttlMinutes))) {
+                entry = new Entry(today, System.currentTimeMillis());
+                entries.put(userId, entry);
+                owner = true;
+            }
+        }
+
+        if (!owner) {
+            return await(entry);
+        }
+        // Error 를 포함해 어떤 이유로 실패해도 항목을 지우고 future 를 끝내야 기다리는 요청이 영원히 묶이지 않음
+        try {
+            DashboardDTO dashboard = loader.get();
+            entry.future.complete(dashboard);
+            return dashboard;
+        } catch (Throwable e) {
+            remove(userId, entry);
+            entry.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 사용자 대시보드 무효화
+     * 트랜잭션 안에서 호출하면 커밋 후에 지움 (커밋 전에 지우면 그 사이 요청이 이전 데이터로 다시 채움)
+     * 계산 중인 항목도 지우므로, 변경 전 데이터로 계산 중이던 결과는 캐시에 남지 않음
+     */
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(userId);
+                }
+            });
+        } else {
+            remove(userId);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void remove(Long userId) {
+        synchronized (entries) {
+            entries.remove(userId);
+        }
+    }
+
+    private void remove(Long userId, Entry entry) {
+        synchronized (entries) {
+            entries.remove(userId, entry);
+        }
+    }
+
+    private DashboardDTO await(Entry entry) {
+        try {
+            return entry.future.get(waitSeconds, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("대시보드 계산 실패", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("대시보드 계산 대기 시간 초과", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("대시보드 계산 대기 중 인터럽트", e);
+        }
+    }
+
+    private static final class Entry {
+        private final LocalDate date;
+        private final long createdAtMillis;
+        private final CompletableFuture<DashboardDTO> future = new CompletableFuture<>();
+
+        private Entry(LocalDate date, long createdAtMillis) {
+            this.date = date;
+            this.createdAtMillis = createdAtMillis;
+        }
+
+        // 계산 중인 항목은 날짜만 맞으면 합류
+        private boolean isValid(LocalDate today, long nowMillis, long ttlMillis) {
+            return date.equals(today) && (!future.isDone() || nowMillis - createdAtMillis < ttlMillis);
+        }
+    }
+}
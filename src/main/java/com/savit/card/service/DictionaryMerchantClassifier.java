@@ -0,0 +1,28 @@
+package com.savit.card.service;
+
+import com.savit.card.util.MerchantNameNormalizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가맹점 사전 우선 분류기
+ * 가맹점명이 사전에 정확히 있으면 사전의 카테고리를 쓰고, 없으면 키워드 분류기로 넘김
+ */
+@Primary
+@Component
+@RequiredArgsConstructor
+public class DictionaryMerchantClassifier implements MerchantClassifier {
+
+    private final MerchantDictionary merchantDictionary;
+    private final KeywordMerchantClassifier keywordMerchantClassifier;
+
+    @Override
+    public String classify(String storeName, String storeType) {
+        String category = merchantDictionary.lookup(MerchantNameNormalizer.normalize(storeName));
+        if (category != null) {
+            return category;
+        }
+        return keywordMerchantClassifier.classify(storeName, storeType);
+    }
+}
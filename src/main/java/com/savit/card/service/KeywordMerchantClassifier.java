@@ -0,0 +1,99 @@
+package com.savit.card.service;
+
+import com.savit.card.util.AhoCorasickMatcher;
+import com.savit.card.util.MerchantNameNormalizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 키워드 기반 가맹점 분류기
+ * 카테고리별 키워드를 Aho-Corasick 오토마톤으로 미리 컴파일해서 상호명을 한 번만 훑어 분류
+ * 여러 키워드가 걸리면 가장 긴 키워드가 이기고, 길이가 같으면 아래 맵에 먼저 적힌 카테고리가 이김
+ */
+@Slf4j
+@Component
+public class KeywordMerchantClassifier implements MerchantClassifier {
+
+    // 상호명 키워드 (선언 순서 = 동률일 때의 우선순위)
+    private static final Map<String, List<String>> NAME_KEYWORDS = new LinkedHashMap<>();
+    static {
+        NAME_KEYWORDS.put("배달", List.of("배달의민족", "요기요", "쿠팡이츠", "땡겨요", "배달앱", "배달전문", "배민", "우아한형제"));
+        NAME_KEYWORDS.put("정기구독", List.of("넷플릭스", "netflix", "디즈니플러스", "disney", "왓챠", "유튜브프리미엄", "yt", "멜론", "벅스", "지니뮤직", "정기결제", "구독", "openai", "gpt", "youtube"));
+        NAME_KEYWORDS.put("영화", List.of("CGV", "메가박스", "롯데시네마", "영화관", "영화티켓", "무비", "시네마"));
+        NAME_KEYWORDS.put("공연", List.of("예술의전당", "뮤지컬", "콘서트", "연극", "공연", "티켓링크", "인터파크티켓"));
+        NAME_KEYWORDS.put("택시", List.of("카카오택시", "타다", "마카롱택시", "온다", "우버", "택시"));
+        NAME_KEYWORDS.put("대중교통", List.of("버스", "지하철", "티머니", "교통카드", "환승", "대중교통"));
+        NAME_KEYWORDS.put("카페", List.of("스타벅스", "이디야", "컴포즈", "투썸", "커피", "베스킨", "메가", "폴바셋", "할리스", "블루보틀"));
+        NAME_KEYWORDS.put("식당", List.of("일반음식점", "패스트푸드", "맥도날드", "일반", "김밥", "한솥", "맘스터치", "본죽", "삼겹살", "국밥", "쌀국수", "고기", "마라탕", "우동", "돈까스", "비빔밥", "분식"));
+        NAME_KEYWORDS.put("편의점/마트", List.of("GS25", "CU", "세븐일레븐", "이마트24", "다이소", "홈플러스", "롯데마트", "이마트", "마트"));
+        NAME_KEYWORDS.put("쇼핑", List.of("쿠팡", "11번가", "지마켓", "G마켓", "SSG", "롯데ON", "네이버쇼핑", "마켓컬리"));
+        NAME_KEYWORDS.put("유흥", List.of("술집", "호프", "포차", "맥주", "노래방", "주점"));
+        NAME_KEYWORDS.put("의료비", List.of("병원", "약국", "치과", "한의원", "병원비", "이비인후과", "내과", "안과", "정형외과", "피부과", "정신과", "의원"));
+        NAME_KEYWORDS.put("교육", List.of("학원", "온라인강의", "인강", "과외", "교육비", "수강료", "토익", "자격증", "공부"));
+        NAME_KEYWORDS.put("통신비", List.of("SKT", "KT", "LGU+", "알뜰폰", "요금", "통신사"));
+        NAME_KEYWORDS.put("공과금", List.of("전기", "수도", "도시가스", "지역난방", "공공요금", "한전"));
+    }
+
+    // 업종명 키워드 (상호명으로 분류되지 않을 때만 사용)
+    private static final Map<String, String> SAFE_STORE_TYPE_MAPPING = new LinkedHashMap<>();
+    static {
+        SAFE_STORE_TYPE_MAPPING.put("택시", "택시");
+        SAFE_STORE_TYPE_MAPPING.put("버스", "대중교통");
+        SAFE_STORE_TYPE_MAPPING.put("지하철", "대중교통");
+        SAFE_STORE_TYPE_MAPPING.put("편의점", "편의점/마트");
+        SAFE_STORE_TYPE_MAPPING.put("병원", "의료비");
+        SAFE_STORE_TYPE_MAPPING.put("학원", "교육");
+        SAFE_STORE_TYPE_MAPPING.put("넷플릭스", "정기구독");
+        SAFE_STORE_TYPE_MAPPING.put("CGV", "영화");
+    }
+
+    private final AhoCorasickMatcher<String> nameMatcher;
+    private final AhoCorasickMatcher<String> storeTypeMatcher;
+
+    public KeywordMerchantClassifier() {
+        this.nameMatcher = compile(NAME_KEYWORDS);
+
+        Map<String, List<String>> storeTypeKeywords = new LinkedHashMap<>();
+        SAFE_STORE_TYPE_MAPPING.forEach((keyword, category) ->
+                storeTypeKeywords.computeIfAbsent(category, k -> new ArrayList<>()).add(keyword));
+        this.storeTypeMatcher = compile(storeTypeKeywords);
+
+        log.info("가맹점 분류 키워드 컴파일 완료 - 카테고리 {}개", NAME_KEYWORDS.size());
+    }
+
+    @Override
+    public String classify(String storeName, String storeType) {
+        String category = match(nameMatcher, storeName);
+        if (category == null) {
+            category = match(storeTypeMatcher, storeType);
+        }
+        return category != null ? category : DEFAULT_CATEGORY;
+    }
+
+    private String match(AhoCorasickMatcher<String> matcher, String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        return matcher.findBest(MerchantNameNormalizer.normalize(text))
+                .map(AhoCorasickMatcher.Match::getValue)
+                .orElse(null);
+    }
+
+    // 카테고리 선언 순서를 우선순위로 사용해서 오토마톤 생성 (키워드도 상호명과 같은 방식으로 전처리)
+    private static AhoCorasickMatcher<String> compile(Map<String, List<String>> keywordsByCategory) {
+        AhoCorasickMatcher.Builder<String> builder = AhoCorasickMatcher.builder();
+        int priority = 0;
+        for (Map.Entry<String, List<String>> entry : keywordsByCategory.entrySet()) {
+            for (String keyword : entry.getValue()) {
+                builder.add(MerchantNameNormalizer.normalize(keyword), entry.getKey(), priority);
+            }
+            priority++;
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,208 @@
+package com.savit.card.service;
+
+import com.savit.budget.domain.CategoryVO;
+import com.savit.budget.service.CategoryCache;
+import com.savit.card.domain.CardTransactionVO;
+import com.savit.card.domain.MerchantCategoryOverride;
+import com.savit.card.mapper.CardTransactionMapper;
+import com.savit.card.mapper.MerchantCategoryOverrideMapper;
+import com.savit.card.util.MerchantNameNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+import javax.annotation.PostConstruct;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 수동 분류에서 학습한 가맹점 → 카테고리 보정값 관리
+ * - 사용자가 카테고리를 직접 바꾸면 사용자별 보정값으로 저장
+ * - 같은 가맹점을 같은 카테고리로 바꾼 사용자가 일정 수 이상이면 전체 공통 보정값(user_id = 0)으로 승격
+ * - 분류 시에는 사용자 보정값 → 공통 보정값 순서로 메모리 캐시에서 조회
+ * - 사용자 보정값은 최근 사용 순으로 max-cached-users 명까지만 보관하고,
+ *   다른 서버에서 수정한 값도 보이도록 주기적으로 비움 (다음 조회 때 DB에서 다시 읽음)
+ * - 공통 보정값은 다른 서버에서 승격된 값도 보이도록 주기적으로 다시 읽음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MerchantCategoryOverrideService {
+
+    // 재지정 시 한 번에 UPDATE 하는 최대 거래 수
+    private static final int RETAG_BATCH_SIZE = 500;
+
+    private final MerchantCategoryOverrideMapper overrideMapper;
+    private final CardTransactionMapper cardTransactionMapper;
+    private final CategoryCache categoryCache;
+    private final DailySpendingRollupService dailySpendingRollupService;
+    private final DashboardCache dashboardCache;
+
+    // 공통 보정값으로 승격되기 위한 최소 사용자 수
+    @Value("${classifier.override.global-min-users:3}")
+    private int globalMinUsers;
+
+    // 메모리에 보정값을 보관할 최대 사용자 수
+    @Value("${classifier.override.max-cached-users:5000}")
+    private int maxCachedUsers;
+
+    // 사용자 ID → (가맹점 키 → 카테고리 ID), 사용자별로 처음 조회할 때 DB에서 읽어옴
+    // 접근 순서 LinkedHashMap (LRU), userOverrides 로 동기화
+    private final Map<Long, Map<String, Long>> userOverrides = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Map<String, Long>> eldest) {
+            return size() > maxCachedUsers;
+        }
+    };
+
+    // 공통 보정값 (가맹점 키 → 카테고리 ID), 다시 읽을 때 통째로 교체
+    private volatile Map<String, Long> globalOverrides = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        refreshGlobalOverrides();
+    }
+
+    /**
+     * 공통 보정값 다시 읽기 (실패하면 기존 값 유지)
+     */
+    @Scheduled(fixedDelayString = "${classifier.override.global-refresh-millis:300000}",
+               initialDelayString = "${classifier.override.global-refresh-millis:300000}")
+    public void refreshGlobalOverrides() {
+        try {
+            Map<String, Long> loaded = new ConcurrentHashMap<>();
+            overrideMapper.findByUserId(MerchantCategoryOverride.GLOBAL_USER_ID)
+                    .forEach(o -> loaded.put(o.getMerchantKey(), o.getCategoryId()));
+            globalOverrides = loaded;
+            log.debug("가맹점 공통 보정값 로드 완료: {}건", loaded.size());
+        } catch (Exception e) {
+            log.error("가맹점 공통 보정값 로드 실패 - 기존 보정값 유지 ({}건)", globalOverrides.size(), e);
+        }
+    }
+
+    /**
+     * 캐시된 사용자 보정값 비우기 (다른 서버에서 학습한 보정값 반영용)
+     */
+    @Scheduled(fixedDelayString = "${classifier.override.user-refresh-millis:300000}",
+               initialDelayString = "${classifier.override.user-refresh-millis:300000}")
+    public void evictUserOverrides() {
+        int evicted;
+        synchronized (userOverrides) {
+            evicted = userOverrides.size();
+            userOverrides.clear();
+        }
+        log.debug("가맹점 사용자 보정값 캐시 비움: {}명", evicted);
+    }
+
+    /**
+     * 사용자 보정값 → 공통 보정값 순서로 카테고리 ID 조회 (없으면 null)
+     */
+    public Long findCategoryId(Long userId, String storeName) {
+        String merchantKey = MerchantNameNormalizer.normalize(storeName);
+        if (merchantKey.isEmpty()) {
+            return null;
+        }
+
+        if (userId != null) {
+            Long categoryId = getUserOverrides(userId).get(merchantKey);
+            if (categoryId != null) {
+                return categoryId;
+            }
+        }
+        return globalOverrides.get(merchantKey);
+    }
+
+    /**
+     * 수동 분류 결과를 보정값으로 저장하고, 조건을 만족하면 공통 보정값으로 승격
+     */
+    public void learn(Long userId, String storeName, Long categoryId) {
+        String merchantKey = MerchantNameNormalizer.normalize(storeName);
+        if (merchantKey.isEmpty()) {
+            return;
+        }
+
+        overrideMapper.upsertOverride(MerchantCategoryOverride.builder()
+                .userId(userId)
+                .merchantKey(merchantKey)
+                .categoryId(categoryId)
+                .build());
+        getUserOverrides(userId).put(merchantKey, categoryId);
+
+        int agreedUsers = overrideMapper.countUsersByMerchantAndCategory(merchantKey, categoryId);
+        if (agreedUsers >= globalMinUsers && !categoryId.equals(globalOverrides.get(merchantKey))) {
+            overrideMapper.upsertOverride(MerchantCategoryOverride.builder()
+                    .userId(MerchantCategoryOverride.GLOBAL_USER_ID)
+                    .merchantKey(merchantKey)
+                    .categoryId(categoryId)
+                    .build());
+            globalOverrides.put(merchantKey, categoryId);
+            log.info("가맹점 공통 보정값 승격 - merchant: {}, categoryId: {}, 사용자 수: {}",
+                    merchantKey, categoryId, agreedUsers);
+        }
+    }
+
+    /**
+     * 같은 가맹점의 과거 미분류 거래(NULL 또는 '기타')를 백그라운드에서 한 번에 재지정
+     * 보정값과 같은 규칙으로 가맹점명을 정규화해서 비교 (띄어쓰기/대소문자가 다른 거래도 포함)
+     * (DB 일괄 처리라서 카드 동기화 풀이 아닌 batchJobExecutor 에서 실행)
+     * 재지정한 카드-일자의 지출 집계도 같은 트랜잭션에서 다시 계산
+     */
+    @Async("batchJobExecutor")
+    @Transactional
+    public void retagUncategorizedAsync(Long userId, String storeName, Long categoryId) {
+        try {
+            CategoryVO fallback = categoryCache.findByName(MerchantClassifier.DEFAULT_CATEGORY);
+            Long fallbackCategoryId = fallback != null ? fallback.getId() : null;
+
+            String merchantKey = MerchantNameNormalizer.normalize(storeName);
+            if (merchantKey.isEmpty()) {
+                return;
+            }
+            List<CardTransactionVO> matched = cardTransactionMapper
+                    .findUncategorizedTransactionsByUser(userId, fallbackCategoryId).stream()
+                    .filter(tx -> merchantKey.equals(MerchantNameNormalizer.normalize(tx.getResMemberStoreName())))
+                    .collect(Collectors.toList());
+            if (matched.isEmpty()) {
+                return;
+            }
+            matched.forEach(tx -> tx.setCategoryId(categoryId));
+
+            int updated = 0;
+            for (int from = 0; from < matched.size(); from += RETAG_BATCH_SIZE) {
+                updated += cardTransactionMapper.updateCategories(
+                        matched.subList(from, Math.min(from + RETAG_BATCH_SIZE, matched.size())));
+            }
+            dailySpendingRollupService.refresh(matched, CardTransactionVO::getCardId, CardTransactionVO::getResUsedDate);
+            dashboardCache.invalidate(userId);
+            log.info("가맹점 보정값으로 과거 거래 재지정 - userId: {}, store: {}, {}건", userId, storeName, updated);
+        } catch (Exception e) {
+            // 거래와 집계가 어긋나지 않도록 둘 다 되돌림
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            log.error("가맹점 보정값 과거 거래 재지정 실패 - userId: {}, store: {}", userId, storeName, e);
+        }
+    }
+
+    // DB 조회는 잠금 밖에서 (동시에 처음 조회한 경우 먼저 넣은 쪽 사용)
+    private Map<String, Long> getUserOverrides(Long userId) {
+        synchronized (userOverrides) {
+            Map<String, Long> cached = userOverrides.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        Map<String, Long> overrides = new ConcurrentHashMap<>();
+        overrideMapper.findByUserId(userId).forEach(o -> overrides.put(o.getMerchantKey(), o.getCategoryId()));
+        synchronized (userOverrides) {
+            return userOverrides.computeIfAbsent(userId, id -> overrides);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.savit.card.service;
+
+/**
+ * 가맹점 카테고리 분류기
+ * 상호명/업종명으로 카테고리명을 결정하며, 자동 분류와 재분류가 같은 구현을 공유함
+ */
+public interface MerchantClassifier {
+
+    /** 어떤 규칙에도 걸리지 않을 때의 카테고리명 */
+    String DEFAULT_CATEGORY = "기타";
+
+    /**
+     * 카테고리명 반환 (분류 불가 시 DEFAULT_CATEGORY)
+     */
+    String classify(String storeName, String storeType);
+}
@@ -0,0 +1,191 @@
+package com.savit.card.service;
+
+import com.savit.budget.service.CategoryCache;
+import com.savit.card.util.MerchantNameNormalizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 가맹점명 → 카테고리명 정확 일치 사전
+ *
+ * 파일 형식 (UTF-8 텍스트, 가맹점명 기준 정렬)
+ * <pre>
+ * #version=2025-08-01.1
+ * 스타벅스강남점	카페
+ * 쿠팡이츠	배달
+ * </pre>
+ * - 첫 줄은 버전 헤더, 이후 "가맹점명\t카테고리명" 한 줄에 하나
+ * - 가맹점명은 MerchantNameNormalizer 규칙으로 전처리한 값을 키로 사용
+ * - 카테고리명은 종류가 적으므로 하나의 인스턴스를 공유해서 힙 사용량을 줄임
+ * - Category 테이블에 없는 카테고리명은 저장 시 분류 오류가 나므로 읽을 때 건너뜀
+ *
+ * 주기적으로 파일 수정 시각을 확인해서 바뀌었으면 새 맵을 만든 뒤 참조만 교체함
+ * 분류 스레드는 volatile 참조를 읽기만 하므로 교체 중에도 막히지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MerchantDictionary {
+
+    private static final String VERSION_HEADER = "#version=";
+
+    // 사전 파일 경로 (비어 있으면 사전 미사용)
+    @Value("${classifier.dictionary.path:}")
+    private String dictionaryPath;
+
+    private final CategoryCache categoryCache;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    @PostConstruct
+    public void init() {
+        if (dictionaryPath == null || dictionaryPath.isBlank()) {
+            log.info("가맹점 사전 경로가 설정되지 않아 키워드 분류만 사용합니다.");
+            return;
+        }
+        reloadIfChanged();
+    }
+
+    /**
+     * 정규화된 가맹점명으로 카테고리명 조회 (없으면 null)
+     */
+    public String lookup(String normalizedStoreName) {
+        if (normalizedStoreName == null || normalizedStoreName.isEmpty()) {
+            return null;
+        }
+        return snapshot.entries.get(normalizedStoreName);
+    }
+
+    public String getVersion() {
+        return snapshot.version;
+    }
+
+    public int size() {
+        return snapshot.entries.size();
+    }
+
+    /**
+     * 파일이 바뀌었을 때만 다시 읽어서 교체
+     * 읽기에 실패하면 기존 사전을 그대로 유지
+     */
+    @Scheduled(fixedDelayString = "${classifier.dictionary.reload-millis:60000}",
+               initialDelayString = "${classifier.dictionary.reload-millis:60000}")
+    public void reloadIfChanged() {
+        if (dictionaryPath == null || dictionaryPath.isBlank()) {
+            return;
+        }
+
+        Path path = Paths.get(dictionaryPath);
+        try {
+            if (!Files.isReadable(path)) {
+                log.warn("가맹점 사전 파일을 읽을 수 없습니다: {}", path);
+                return;
+            }
+
+            FileTime modifiedAt = Files.getLastModifiedTime(path);
+            if (modifiedAt.equals(snapshot.modifiedAt)) {
+                return;
+            }
+
+            Snapshot loaded = load(path, modifiedAt);
+            Snapshot previous = snapshot;
+            snapshot = loaded;
+            log.info("가맹점 사전 교체 완료 - 버전: {} -> {}, 항목: {}건",
+                    previous.version, loaded.version, loaded.entries.size());
+        } catch (Exception e) {
+            log.error("가맹점 사전 로드 실패 - 기존 사전 유지 (버전: {})", snapshot.version, e);
+        }
+    }
+
+    private Snapshot load(Path path, FileTime modifiedAt) throws IOException {
+        String version = null;
+        Map<String, String> entries = new HashMap<>();
+        Map<String, String> categories = new HashMap<>(); // 카테고리명 인스턴스 공유용
+        String previousKey = null;
+        int unsortedLines = 0;
+        int skippedLines = 0;
+        Set<String> unknownCategories = new TreeSet<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(VERSION_HEADER)) {
+                    version = line.substring(VERSION_HEADER.length()).trim();
+                    continue;
+                }
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+
+                int tab = line.indexOf('\t');
+                if (tab <= 0 || tab == line.length() - 1) {
+                    skippedLines++;
+                    continue;
+                }
+
+                String key = MerchantNameNormalizer.normalize(line.substring(0, tab));
+                String category = line.substring(tab + 1).trim();
+                if (key.isEmpty() || category.isEmpty()) {
+                    skippedLines++;
+                    continue;
+                }
+
+                if (!categories.containsKey(category) && categoryCache.findByName(category) == null) {
+                    unknownCategories.add(category);
+                    skippedLines++;
+                    continue;
+                }
+
+                if (previousKey != null && previousKey.compareTo(key) > 0) {
+                    unsortedLines++;
+                }
+                previousKey = key;
+
+                entries.put(key, categories.computeIfAbsent(category, c -> c));
+            }
+        }
+
+        if (version == null) {
+            throw new IllegalStateException("가맹점 사전에 버전 헤더(" + VERSION_HEADER + ")가 없습니다: " + path);
+        }
+        if (unsortedLines > 0 || skippedLines > 0) {
+            log.warn("가맹점 사전 형식 경고 - 버전: {}, 정렬 어긋남: {}줄, 잘못된 줄: {}줄, 없는 카테고리: {}",
+                    version, unsortedLines, skippedLines, unknownCategories);
+        }
+
+        return new Snapshot(version, Collections.unmodifiableMap(entries), modifiedAt);
+    }
+
+    // 한 번 만들어지면 바뀌지 않는 사전 스냅샷
+    private static final class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot("none", Collections.emptyMap(), null);
+
+        private final String version;
+        private final Map<String, String> entries;
+        private final FileTime modifiedAt;
+
+        private Snapshot(String version, Map<String, String> entries, FileTime modifiedAt) {
+            this.version = version;
+            this.entries = entries;
+            this.modifiedAt = modifiedAt;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.savit.card.service;
+
+import com.savit.card.domain.MonthlyUsageSnapshot;
+import com.savit.card.mapper.DailySpendingRollupMapper;
+import com.savit.card.mapper.MonthlyUsageSnapshotMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 마감된 월 지출 합계 스냅샷
+ * - 월이 끝나고 정산 유예 기간(취소 반영 기간)이 지나면 그 달 합계를 한 번 저장
+ * - 한 번 읽은 스냅샷은 메모리에 보관 (대시보드 지난 달 사용액, 월별 추이 조회가 DB 없이 끝남)
+ * - 스냅샷이 없는 마감 월(배치 전, 이후 가입 사용자)은 일자별 지출 집계로 계산해서 그 자리에서 저장
+ * - 마감 후에도 승인내역 수집(전월 1일부터)이 그 달 거래를 쓰면 스냅샷을 지우고 다음 조회 때 다시 계산
+ *   이렇게 바뀔 수 있는 월은 recent-cache-ttl-minutes 동안만 메모리에 두어 다른 서버에서 지운 스냅샷도 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MonthlyUsageSnapshotService {
+
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyyMM");
+
+    // 승인내역 전체 동기화가 다시 읽는 지난 개월 수 (CardApprovalService.resolveStartDate 와 맞춤)
+    private static final int INGEST_LOOKBACK_MONTHS = 1;
+
+    private final MonthlyUsageSnapshotMapper monthlyUsageSnapshotMapper;
+    private final DailySpendingRollupMapper dailySpendingRollupMapper;
+
+    // 월이 끝난 뒤 이 기간이 지나야 마감으로 봄
+    @Value("${usage-snapshot.settlement-lag-days:7}")
+    private long settlementLagDays;
+
+    // 수집이 아직 쓸 수 있는 마감 월을 메모리에 보관하는 시간
+    @Value("${usage-snapshot.recent-cache-ttl-minutes:10}")
+    private long recentCacheTtlMinutes;
+
+    // userId -> (월 -> 마감 합계)
+    private final Map<Long, Map<YearMonth, CachedUsage>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 오늘 기준으로 마감된 가장 최근 월
+     */
+    public YearMonth getLatestClosedMonth(LocalDate today) {
+        return YearMonth.from(today.minusDays(settlementLagDays)).minusMonths(1);
+    }
+
+    public boolean isClosed(YearMonth month, LocalDate today) {
+        return !month.isAfter(getLatestClosedMonth(today));
+    }
+
+    /**
+     * 마감된 월 1개의 지출 합계 (절삭 전)
+     */
+    public BigDecimal getClosedMonthUsage(Long userId, YearMonth month) {
+        return getClosedMonthUsages(userId, month, month).get(month);
+    }
+
+    /**
+     * 마감된 월(from ~ to)의 지출 합계 (절삭 전, 월 오름차순)
+     * 호출하는 쪽에서 to 가 마감된 월인지 확인해야 함
+     */
+    public Map<YearMonth, BigDecimal> getClosedMonthUsages(Long userId, YearMonth from, YearMonth to) {
+        long now = System.currentTimeMillis();
+        Map<YearMonth, CachedUsage> userCache = cache.computeIfAbsent(userId, id -> new ConcurrentHashMap<>());
+        Map<YearMonth, BigDecimal> usages = new TreeMap<>();
+        List<YearMonth> missing = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            CachedUsage cached = userCache.get(month);
+            if (cached != null && cached.isValid(now)) {
+                usages.put(month, cached.amount);
+            } else {
+                missing.add(month);
+            }
+        }
+        if (missing.isEmpty()) {
+            return usages;
+        }
+
+        // 1. 저장된 스냅샷
+        YearMonth firstMissing = missing.get(0);
+        YearMonth lastMissing = missing.get(missing.size() - 1);
+        for (MonthlyUsageSnapshot snapshot : monthlyUsageSnapshotMapper.findByUserAndMonthRange(
+                userId, firstMissing.format(MONTH_FORMATTER), lastMissing.format(MONTH_FORMATTER))) {
+            YearMonth month = YearMonth.parse(snapshot.getMonth(), MONTH_FORMATTER);
+            if (missing.remove(month)) {
+                userCache.put(month, cachedUsage(month, snapshot.getNetAmount(), now));
+                usages.put(month, snapshot.getNetAmount());
+            }
+        }
+        if (missing.isEmpty()) {
+            return usages;
+        }
+
+        // 2. 아직 스냅샷이 없는 월은 일자별 지출 집계로 계산해서 저장
+        Map<YearMonth, BigDecimal> computed = sumNetAmountsByMonth(
+                userId, missing.get(0), missing.get(missing.size() - 1));
+        List<MonthlyUsageSnapshot> snapshots = new ArrayList<>();
+        for (YearMonth month : missing) {
+            BigDecimal amount = computed.getOrDefault(month, BigDecimal.ZERO);
+            snapshots.add(MonthlyUsageSnapshot.builder()
+                    .userId(userId)
+                    .month(month.format(MONTH_FORMATTER))
+                    .netAmount(amount)
+                    .build());
+            userCache.put(month, cachedUsage(month, amount, now));
+            usages.put(month, amount);
+        }
+        monthlyUsageSnapshotMapper.insertSnapshots(snapshots);
+        log.debug("월 지출 스냅샷 저장 - userId: {}, {}개월", userId, snapshots.size());
+        return usages;
+    }
+
+    /**
+     * 카드의 지출 집계가 다시 계산된 월 중 이미 마감된 월의 스냅샷 삭제 (다음 조회 때 집계로 다시 계산)
+     * 집계를 갱신한 트랜잭션 안에서 호출하고, 메모리 캐시는 커밋 후에 비움
+     * (커밋 전에 비우면 그 사이 조회가 이전 스냅샷으로 다시 채움)
+     */
+    public void invalidate(Long cardId, Collection<YearMonth> months) {
+        LocalDate today = LocalDate.now();
+        TreeSet<YearMonth> closed = new TreeSet<>();
+        for (YearMonth month : months) {
+            if (isClosed(month, today)) {
+                closed.add(month);
+            }
+        }
+        if (cardId == null || closed.isEmpty()) {
+            return;
+        }
+
+        Long userId = monthlyUsageSnapshotMapper.findUserIdByCardId(cardId);
+        if (userId == null) {
+            return;
+        }
+        List<String> closedMonths = closed.stream().map(month -> month.format(MONTH_FORMATTER)).toList();
+        int deleted = monthlyUsageSnapshotMapper.deleteByUserAndMonths(userId, closedMonths);
+        log.debug("마감 월 거래 변경으로 스냅샷 삭제 - userId: {}, 월: {}, {}건", userId, closedMonths, deleted);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId, closed);
+                }
+            });
+        } else {
+            evict(userId, closed);
+        }
+    }
+
+    /**
+     * 가장 최근 마감 월의 스냅샷을 전체 사용자에 대해 저장 (이미 있는 사용자는 그대로)
+     */
+    public int finalizeLatestClosedMonth(LocalDate today) {
+        YearMonth month = getLatestClosedMonth(today);
+        int inserted = monthlyUsageSnapshotMapper.insertMonthForAllUsers(
+                month.format(MONTH_FORMATTER), month.atDay(1), month.atEndOfMonth());
+        log.info("월 지출 스냅샷 마감 - {}: {}명 저장", month.format(MONTH_FORMATTER), inserted);
+        return inserted;
+    }
+
+    private void evict(Long userId, Collection<YearMonth> months) {
+        Map<YearMonth, CachedUsage> userCache = cache.get(userId);
+        if (userCache != null) {
+            months.forEach(userCache::remove);
+        }
+    }
+
+    private Map<YearMonth, BigDecimal> sumNetAmountsByMonth(Long userId, YearMonth from, YearMonth to) {
+        Map<YearMonth, BigDecimal> amounts = new HashMap<>();
+        for (MonthlyUsageSnapshot row : dailySpendingRollupMapper.sumNetAmountByUserGroupByMonth(
+                userId, from.atDay(1), to.atEndOfMonth())) {
+            amounts.put(YearMonth.parse(row.getMonth(), MONTH_FORMATTER), row.getNetAmount());
+        }
+        return amounts;
+    }
+
+    // 수집 범위 밖의 월은 더 바뀌지 않으므로 만료 없이, 범위 안의 월은 recentCacheTtlMinutes 동안만 보관
+    private CachedUsage cachedUsage(YearMonth month, BigDecimal amount, long nowMillis) {
+        boolean frozen = month.isBefore(YearMonth.now().minusMonths(INGEST_LOOKBACK_MONTHS));
+        long expiresAtMillis = frozen ? Long.MAX_VALUE : nowMillis + TimeUnit.MINUTES.toMillis(recentCacheTtlMinutes);
+        return new CachedUsage(amount, expiresAtMillis);
+    }
+
+    private static final class CachedUsage {
+        private final BigDecimal amount;
+        private final long expiresAtMillis;
+
+        private CachedUsage(BigDecimal amount, long expiresAtMillis) {
+            this.amount = amount;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isValid(long nowMillis) {
+            return nowMillis < expiresAtMillis;
+        }
+    }
+}
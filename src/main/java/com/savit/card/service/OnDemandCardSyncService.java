@@ -0,0 +1,113 @@
+package com.savit.card.service;
+
+import com.savit.card.domain.ApprovalSyncMode;
+import com.savit.card.domain.CardApproval;
+import com.savit.card.dto.OnDemandSyncResult;
+import com.savit.card.util.SyncCoalescer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자가 새로고침으로 요청한 카드 승인내역 동기화
+ * - 같은 사용자(전체 카드) / 같은 카드의 동시 요청은 하나만 Codef 를 호출하고 나머지는 결과를 함께 받음
+ *   (연속 터치나 여러 기기에서 같은 동기화가 동시에 돌면서 중복 저장되는 것 방지)
+ * - 끝난 지 fresh-seconds 가 지나지 않았으면 Codef 호출 없이 직전 결과 반환
+ * - 카드 단건 요청은 같은 사용자의 전체 카드 동기화가 진행 중이거나 방금 끝났으면 그 결과에서 해당 카드 몫을 사용
+ * - 전체 카드 동기화는 같은 사용자의 카드 단건 동기화가 진행 중이면 끝날 때까지 기다린 뒤 시작
+ */
+@Slf4j
+@Service
+public class OnDemandCardSyncService {
+
+    private final CardApprovalService cardApprovalService;
+
+    // 키: userId:mode
+    private final SyncCoalescer<String, Map<Long, List<CardApproval>>> userSyncs;
+    // 키: userId:cardId:mode
+    private final SyncCoalescer<String, List<CardApproval>> cardSyncs;
+
+    public OnDemandCardSyncService(CardApprovalService cardApprovalService,
+                                   @Value("${card-sync.on-demand.fresh-seconds:30}") long freshSeconds,
+                                   @Value("${card-sync.on-demand.wait-seconds:120}") long waitSeconds) {
+        this.cardApprovalService = cardApprovalService;
+        long freshMillis = TimeUnit.SECONDS.toMillis(freshSeconds);
+        long waitMillis = TimeUnit.SECONDS.toMillis(waitSeconds);
+        this.userSyncs = new SyncCoalescer<>(freshMillis, waitMillis);
+        this.cardSyncs = new SyncCoalescer<>(freshMillis, waitMillis);
+    }
+
+    /**
+     * 사용자의 모든 카드 동기화
+     * @return 카드별 새로 저장된 승인내역
+     */
+    public OnDemandSyncResult<Map<Long, List<CardApproval>>> syncAllCards(Long userId, ApprovalSyncMode mode) throws Exception {
+        OnDemandSyncResult<Map<Long, List<CardApproval>>> result = userSyncs.run(userKey(userId, mode), () -> {
+            awaitCardSyncs(userId);
+            return cardApprovalService.fetchAndSaveAllCards(userId, mode);
+        });
+        log.info("사용자 {} 전체 카드 요청 동기화 - 출처: {}", userId, result.getSource());
+        return result;
+    }
+
+    /**
+     * 카드 1장 동기화
+     * @return 새로 저장된 승인내역
+     */
+    public OnDemandSyncResult<List<CardApproval>> syncCard(Long userId, Long cardId, ApprovalSyncMode mode) throws Exception {
+        String userKey = userKey(userId, mode);
+
+        Optional<OnDemandSyncResult<List<CardApproval>>> fromUserSync = userSyncs.getFresh(userKey)
+                .or(() -> awaitUserSync(userKey))
+                .filter(userResult -> userResult.getData().containsKey(cardId))
+                .map(userResult -> new OnDemandSyncResult<>(
+                        userResult.getData().get(cardId), userResult.getSource(), userResult.getSyncedAt()));
+        if (fromUserSync.isPresent()) {
+            log.info("사용자 {} 카드 {} 요청 동기화 - 전체 카드 동기화 결과 사용 ({})", userId, cardId, fromUserSync.get().getSource());
+            return fromUserSync.get();
+        }
+
+        OnDemandSyncResult<List<CardApproval>> result = cardSyncs.run(cardKey(userId, cardId, mode),
+                () -> cardApprovalService.fetchAndSaveApprovals(userId, cardId, mode));
+        log.info("사용자 {} 카드 {} 요청 동기화 - 출처: {}", userId, cardId, result.getSource());
+        return result;
+    }
+
+    private Optional<OnDemandSyncResult<Map<Long, List<CardApproval>>>> awaitUserSync(String userKey) {
+        try {
+            return userSyncs.awaitInFlight(userKey);
+        } catch (Exception e) {
+            // 전체 카드 동기화가 실패했으면 이 카드만 따로 동기화
+            log.warn("진행 중이던 전체 카드 동기화 실패 - {}: {}", userKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // 같은 카드를 동시에 저장하지 않도록 이 사용자의 카드 단건 동기화가 끝나기를 기다림 (실패는 무시)
+    private void awaitCardSyncs(Long userId) {
+        String prefix = userId + ":";
+        for (String key : cardSyncs.inFlightKeys()) {
+            if (!key.startsWith(prefix)) {
+                continue;
+            }
+            try {
+                cardSyncs.awaitInFlight(key);
+            } catch (Exception e) {
+                log.debug("카드 단건 동기화 대기 중 오류 - {}: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    private String userKey(Long userId, ApprovalSyncMode mode) {
+        return userId + ":" + mode;
+    }
+
+    private String cardKey(Long userId, Long cardId, ApprovalSyncMode mode) {
+        return userId + ":" + cardId + ":" + mode;
+    }
+}
@@ -0,0 +1,148 @@
+package com.savit.card.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+
+/**
+ * Aho-Corasick 다중 패턴 매칭기
+ * 등록된 키워드 전체를 하나의 오토마톤으로 컴파일해서, 입력 문자열을 한 번만 훑어 가장 좋은 매칭을 찾음
+ * - 더 긴 키워드가 우선
+ * - 길이가 같으면 priority 값이 작은 쪽이 우선
+ * - 그래도 같으면 먼저 등록된 키워드가 우선
+ * 빌드 후에는 읽기 전용이므로 여러 스레드에서 공유 가능
+ */
+public final class AhoCorasickMatcher<T> {
+
+    private final Node<T> root;
+
+    private AhoCorasickMatcher(Node<T> root) {
+        this.root = root;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 입력 문자열에서 가장 우선순위가 높은 매칭 1건 반환
+     */
+    public Optional<Match<T>> findBest(String text) {
+        if (text == null || text.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Node<T> node = root;
+        Match<T> best = null;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            while (node != root && !node.children.containsKey(c)) {
+                node = node.fail;
+            }
+            node = node.children.getOrDefault(c, root);
+
+            if (node.best != null && isBetter(node.best, best)) {
+                best = node.best;
+            }
+        }
+
+        return Optional.ofNullable(best);
+    }
+
+    private static <T> boolean isBetter(Match<T> candidate, Match<T> current) {
+        if (current == null) {
+            return true;
+        }
+        if (candidate.keyword.length() != current.keyword.length()) {
+            return candidate.keyword.length() > current.keyword.length();
+        }
+        if (candidate.priority != current.priority) {
+            return candidate.priority < current.priority;
+        }
+        return candidate.order < current.order;
+    }
+
+    @Getter
+    @ToString
+    @AllArgsConstructor
+    public static final class Match<T> {
+        private final String keyword;
+        private final T value;
+        private final int priority;
+        private final int order; // 등록 순서
+    }
+
+    private static final class Node<T> {
+        private final Map<Character, Node<T>> children = new HashMap<>();
+        private Node<T> fail;
+        private Match<T> best; // 이 위치에서 끝나는 키워드 중 가장 우선순위가 높은 것 (fail 링크 포함)
+    }
+
+    public static final class Builder<T> {
+
+        private final Node<T> root = new Node<>();
+        private int order;
+
+        private Builder() {
+        }
+
+        /**
+         * 키워드 등록 (빈 키워드는 무시)
+         */
+        public Builder<T> add(String keyword, T value, int priority) {
+            if (keyword == null || keyword.isEmpty()) {
+                return this;
+            }
+
+            Node<T> node = root;
+            for (int i = 0; i < keyword.length(); i++) {
+                node = node.children.computeIfAbsent(keyword.charAt(i), c -> new Node<>());
+            }
+
+            Match<T> match = new Match<>(keyword, value, priority, order++);
+            if (isBetter(match, node.best)) {
+                node.best = match;
+            }
+            return this;
+        }
+
+        public AhoCorasickMatcher<T> build() {
+            // BFS로 fail 링크를 연결하면서, fail 쪽 매칭 중 더 나은 것이 있으면 best에 반영
+            Queue<Node<T>> queue = new ArrayDeque<>();
+            root.fail = root;
+            for (Node<T> child : root.children.values()) {
+                child.fail = root;
+                queue.add(child);
+            }
+
+            while (!queue.isEmpty()) {
+                Node<T> current = queue.poll();
+                for (Map.Entry<Character, Node<T>> entry : current.children.entrySet()) {
+                    char c = entry.getKey();
+                    Node<T> child = entry.getValue();
+
+                    Node<T> fail = current.fail;
+                    while (fail != root && !fail.children.containsKey(c)) {
+                        fail = fail.fail;
+                    }
+                    Node<T> target = fail.children.get(c);
+                    child.fail = (target != null && target != child) ? target : root;
+
+                    if (child.fail.best != null && isBetter(child.fail.best, child.best)) {
+                        child.best = child.fail.best;
+                    }
+                    queue.add(child);
+                }
+            }
+
+            return new AhoCorasickMatcher<>(root);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.savit.card.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 카드 승인내역 중복 판별 키 생성
+ * 카드번호_사용일자_사용시간_사용금액_가맹점명 문자열의 SHA-256 (소문자 hex 64자)
+ * DB 백필 시 SHA2(CONCAT_WS('_', ...), 256) 과 같은 값이 나오도록 null 은 "NULL" 로 치환
+ */
+public final class ApprovalKeyGenerator {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private ApprovalKeyGenerator() {
+    }
+
+    public static String generate(String resCardNo,
+                                  String resUsedDate,
+                                  String resUsedTime,
+                                  String resUsedAmount,
+                                  String resMemberStoreName) {
+        String source = String.join("_",
+                safeString(resCardNo),
+                safeString(resUsedDate),
+                safeString(resUsedTime),
+                safeString(resUsedAmount),
+                safeString(resMemberStoreName));
+        return sha256Hex(source);
+    }
+
+    private static String sha256Hex(String source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            char[] hex = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                hex[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+                hex[i * 2 + 1] = HEX[digest[i] & 0xF];
+            }
+            return new String(hex);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // null 안전 문자열 변환
+    private static String safeString(String value) {
+        return value != null ? value : "NULL";
+    }
+}
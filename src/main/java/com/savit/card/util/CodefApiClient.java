@@ -0,0 +1,183 @@
+package com.savit.card.util;
+
+import com.savit.card.service.CodefTokenService;
+import com.savit.common.exception.CodefCircuitOpenException;
+import io.codef.api.EasyCodef;
+import io.codef.api.EasyCodefServiceType;
+import io.codef.api.EasyCodefTokenMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공용 Codef API 클라이언트
+ * - EasyCodef 인스턴스를 시작 시 한 번만 만들어서 모든 요청이 공유 (클라이언트 정보/공개키 설정은 최초 1회)
+ * - EasyCodefTokenMap 은 라이브러리 전역 static 상태이므로, 토큰이 바뀌었을 때만 이 클래스 한 곳에서 잠금 후 설치
+ * - 모든 호출에 CodefRateLimiter(초당 호출 수), CodefConcurrencyLimiter(동시 호출 수), CodefCircuitBreaker 적용
+ *   서킷이 열려 있으면 스레드를 묶어두지 않고 CodefCircuitOpenException 으로 바로 실패
+ * - EasyCodef 는 통신/서버 오류도 예외 대신 오류 코드 JSON(CF-09999, CF-00500 등)으로 돌려주므로
+ *   result.code 를 보고 서킷/한도 조정에 실패로 반영 (기관 업무 오류는 Codef 자체는 정상 응답한 것으로 봄)
+ * - EasyCodef 는 내부적으로 HttpURLConnection 을 쓰므로, 연결/읽기 타임아웃과 keep-alive 연결 수는
+ *   JVM 기본값(sun.net.client.*, http.maxConnections)으로 지정 (이미 JVM 옵션으로 지정돼 있으면 그 값을 유지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CodefApiClient {
+
+    // Codef 공통/인증 오류 코드, 통신/서버 오류 코드
+    private static final String SYSTEM_ERROR_PREFIX = "CF-00";
+    private static final String SERVER_ERROR_PREFIX = "CF-09";
+
+    // 토큰 만료/폐기 등으로 Codef 가 토큰을 거절했을 때의 코드
+    private static final Set<String> TOKEN_ERROR_CODES = Set.of("CF-00401", "CF-00403");
+
+    private final CodefUtil codefUtil;
+    private final CodefTokenService codefTokenService;
+    private final CodefRateLimiter codefRateLimiter;
+    private final CodefConcurrencyLimiter codefConcurrencyLimiter;
+    private final CodefCircuitBreaker codefCircuitBreaker;
+    private final CodefResponseParser codefResponseParser;
+
+    @Value("${codef.http.connect-timeout-millis:5000}")
+    private int connectTimeoutMillis;
+
+    @Value("${codef.http.read-timeout-millis:30000}")
+    private int readTimeoutMillis;
+
+    // 호스트별로 유지할 keep-alive 연결 수
+    @Value("${codef.http.max-connections:10}")
+    private int maxConnections;
+
+    private EasyCodef client;
+
+    // 마지막으로 EasyCodefTokenMap 에 설치한 토큰
+    private volatile String installedToken;
+
+    @PostConstruct
+    public void init() {
+        setDefaultIfAbsent("sun.net.client.defaultConnectTimeout", String.valueOf(connectTimeoutMillis));
+        setDefaultIfAbsent("sun.net.client.defaultReadTimeout", String.valueOf(readTimeoutMillis));
+        setDefaultIfAbsent("http.maxConnections", String.valueOf(maxConnections));
+
+        client = codefUtil.newClient();
+        log.info("Codef 클라이언트 초기화 완료 - connectTimeout: {}ms, readTimeout: {}ms, maxConnections: {}",
+                System.getProperty("sun.net.client.defaultConnectTimeout"),
+                System.getProperty("sun.net.client.defaultReadTimeout"),
+                System.getProperty("http.maxConnections"));
+    }
+
+    /**
+     * 상품 API 호출 (승인내역, 카드목록 등)
+     */
+    public String requestProduct(String productUrl, HashMap<String, Object> params) throws Exception {
+        return execute(() -> client.requestProduct(productUrl, EasyCodefServiceType.DEMO, params));
+    }
+
+    /**
+     * 계정 등록 (connectedId 발급)
+     */
+    public String createAccount(HashMap<String, Object> params) throws Exception {
+        return execute(() -> client.createAccount(EasyCodefServiceType.DEMO, params));
+    }
+
+    // 서킷 확인 → 동시 호출 슬롯 → 토큰/초당 호출 수 → 실제 호출 순서로 실행하고, 실제 호출 결과만 서킷/한도 조정에 반영
+    // 토큰 거절 응답이면 토큰 캐시를 무효화하고 새 토큰으로 한 번만 다시 호출
+    private String execute(Callable<String> call) throws Exception {
+        if (codefCircuitBreaker.isOpen()) {
+            throw new CodefCircuitOpenException(codefCircuitBreaker.getRemainingOpenMillis());
+        }
+
+        codefConcurrencyLimiter.acquire();
+        try {
+            String accessToken = prepareRequest();
+            String resp = call(call);
+            if (!isTokenRejected(resp)) {
+                return resp;
+            }
+
+            log.warn("Codef 토큰 거절 - 토큰 무효화 후 재시도");
+            codefTokenService.invalidate(accessToken);
+            prepareRequest();
+            return call(call);
+        } finally {
+            codefConcurrencyLimiter.release();
+        }
+    }
+
+    private String call(Callable<String> call) throws Exception {
+        if (!codefCircuitBreaker.tryAcquirePermission()) {
+            throw new CodefCircuitOpenException(codefCircuitBreaker.getRemainingOpenMillis());
+        }
+
+        long startedAt = System.nanoTime();
+        boolean success = false;
+        try {
+            String resp = call.call();
+            success = isHealthyResponse(resp);
+            return resp;
+        } finally {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            codefCircuitBreaker.onResult(success, elapsedMillis);
+            codefConcurrencyLimiter.onResult(success, elapsedMillis);
+        }
+    }
+
+    private boolean isTokenRejected(String resp) {
+        String code = codefResponseParser.readResultCode(resp);
+        return code != null && TOKEN_ERROR_CODES.contains(code);
+    }
+
+    // 응답 코드가 없거나 Codef 시스템 오류(CF-00xxx, CF-09xxx)면 실패, 성공/업무 오류(CF-1xxxx 등)는 정상
+    // 토큰 거절은 Codef 장애가 아니므로 정상으로 봄 (토큰 만료 시 동시 호출이 한꺼번에 거절돼도 서킷/한도에 영향 없음)
+    private boolean isHealthyResponse(String resp) {
+        String code = codefResponseParser.readResultCode(resp);
+        if (code == null) {
+            log.warn("Codef 응답에 result.code 없음 - 응답: {}", codefResponseParser.abbreviate(resp));
+            return false;
+        }
+        if (CodefResponseParser.SUCCESS_CODE.equals(code) || TOKEN_ERROR_CODES.contains(code)) {
+            return true;
+        }
+        if (code.startsWith(SYSTEM_ERROR_PREFIX) || code.startsWith(SERVER_ERROR_PREFIX)) {
+            log.warn("Codef 시스템 오류 응답 - code: {}", code);
+            return false;
+        }
+        return true;
+    }
+
+    // 설치한 토큰을 반환 (토큰 거절 시 어떤 토큰을 무효화할지 알기 위해)
+    private String prepareRequest() throws InterruptedException {
+        String accessToken = codefTokenService.getAccessToken();
+        installToken(accessToken);
+        codefRateLimiter.acquire();
+        return accessToken;
+    }
+
+    // 토큰이 바뀐 경우에만 전역 토큰 맵에 설치 (동시에 여러 스레드가 쓰지 않도록 잠금)
+    private void installToken(String accessToken) {
+        if (accessToken.equals(installedToken)) {
+            return;
+        }
+        synchronized (this) {
+            if (!accessToken.equals(installedToken)) {
+                EasyCodefTokenMap.setToken(codefUtil.getClientId(), accessToken);
+                installedToken = accessToken;
+                log.info("Codef 토큰 설치 완료");
+            }
+        }
+    }
+
+    private void setDefaultIfAbsent(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.savit.card.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Codef API 서킷 브레이커
+ * - 최근 windowSize 건의 호출 중 실패 비율 또는 느린 호출 비율이 기준 이상이면 열림(OPEN)
+ * - 열려 있는 동안(openMillis)은 호출하지 않고 바로 실패
+ * - 시간이 지나면 반열림(HALF_OPEN) 상태로 halfOpenCalls 건만 시험 호출하고,
+ *   모두 정상이면 닫힘(CLOSED), 하나라도 실패하거나 느리면 다시 열림
+ */
+@Slf4j
+@Component
+public class CodefCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int minCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallMillis;
+    private final long openMillis;
+    private final int halfOpenCalls;
+
+    // 최근 호출 결과 (원형 버퍼)
+    private final boolean[] failedCalls;
+    private final boolean[] slowCalls;
+    private int nextIndex;
+    private int recordedCalls;
+    private int failureCount;
+    private int slowCount;
+
+    private State state = State.CLOSED;
+    private long openedAtMillis;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CodefCircuitBreaker(@Value("${codef.circuit.window-size:20}") int windowSize,
+                               @Value("${codef.circuit.min-calls:10}") int minCalls,
+                               @Value("${codef.circuit.failure-rate-threshold:50}") double failureRateThreshold,
+                               @Value("${codef.circuit.slow-call-rate-threshold:50}") double slowCallRateThreshold,
+                               @Value("${codef.circuit.slow-call-millis:10000}") long slowCallMillis,
+                               @Value("${codef.circuit.open-millis:30000}") long openMillis,
+                               @Value("${codef.circuit.half-open-calls:3}") int halfOpenCalls) {
+        if (windowSize <= 0 || minCalls <= 0 || halfOpenCalls <= 0) {
+            throw new IllegalArgumentException("Codef 서킷 브레이커 설정값은 0보다 커야 합니다.");
+        }
+        this.minCalls = Math.min(minCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallMillis = slowCallMillis;
+        this.openMillis = openMillis;
+        this.halfOpenCalls = halfOpenCalls;
+        this.failedCalls = new boolean[windowSize];
+        this.slowCalls = new boolean[windowSize];
+    }
+
+    /**
+     * 호출 가능 여부 확인 후 허가 획득 (반열림 상태에서는 시험 호출 수만큼만 허가)
+     * 허가를 받은 호출은 반드시 onResult로 결과를 알려야 함
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAtMillis < openMillis) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+            halfOpenPermits = halfOpenCalls;
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    /**
+     * 호출 결과 기록
+     */
+    public synchronized void onResult(boolean success, long elapsedMillis) {
+        boolean slow = elapsedMillis >= slowCallMillis;
+
+        if (state == State.HALF_OPEN) {
+            if (!success || slow) {
+                open();
+            } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            // 열리기 전에 시작된 호출의 결과는 무시
+            return;
+        }
+
+        record(success, slow);
+        if (recordedCalls >= minCalls
+                && (rate(failureCount) >= failureRateThreshold || rate(slowCount) >= slowCallRateThreshold)) {
+            log.warn("Codef 서킷 브레이커 열림 - 실패율: {}%, 느린 호출 비율: {}% (최근 {}건)",
+                    Math.round(rate(failureCount)), Math.round(rate(slowCount)), recordedCalls);
+            open();
+        }
+    }
+
+    /**
+     * 열림 상태이고 아직 대기 시간이 남아 있는지 (상태는 바꾸지 않음)
+     */
+    public synchronized boolean isOpen() {
+        return getRemainingOpenMillis() > 0;
+    }
+
+    /**
+     * 다시 시험 호출할 수 있을 때까지 남은 시간 (열림 상태가 아니면 0)
+     */
+    public synchronized long getRemainingOpenMillis() {
+        if (state != State.OPEN) {
+            return 0L;
+        }
+        return Math.max(0L, openedAtMillis + openMillis - System.currentTimeMillis());
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void record(boolean success, boolean slow) {
+        if (recordedCalls == failedCalls.length) {
+            // 가장 오래된 결과를 버림
+            if (failedCalls[nextIndex]) failureCount--;
+            if (slowCalls[nextIndex]) slowCount--;
+        } else {
+            recordedCalls++;
+        }
+
+        failedCalls[nextIndex] = !success;
+        slowCalls[nextIndex] = slow;
+        if (!success) failureCount++;
+        if (slow) slowCount++;
+        nextIndex = (nextIndex + 1) % failedCalls.length;
+    }
+
+    private double rate(int count) {
+        return count * 100.0 / recordedCalls;
+    }
+
+    private void open() {
+        openedAtMillis = System.currentTimeMillis();
+        transitionTo(State.OPEN);
+    }
+
+    private void close() {
+        nextIndex = 0;
+        recordedCalls = 0;
+        failureCount = 0;
+        slowCount = 0;
+        transitionTo(State.CLOSED);
+    }
+
+    private void transitionTo(State next) {
+        if (state != next) {
+            log.info("Codef 서킷 브레이커 상태 변경: {} -> {}", state, next);
+            state = next;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.savit.card.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Codef 동시 호출 수 제한 (AIMD)
+ * - 응답이 목표 지연시간 안에 오면 동시 호출 한도를 조금씩 늘림 (한도만큼 성공할 때마다 +1)
+ * - 실패하거나 느리면 한도를 backoffRatio 배로 줄임
+ *   (동시에 끝난 여러 호출이 한꺼번에 줄이지 않도록 targetLatencyMillis 동안은 한 번만 감소)
+ * - 한도에 도달하면 다른 호출이 끝날 때까지 대기
+ */
+@Slf4j
+@Component
+public class CodefConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyMillis;
+    private final double backoffRatio;
+
+    private double limit;
+    private int inFlight;
+    private long lastDecreaseMillis;
+
+    public CodefConcurrencyLimiter(@Value("${codef.concurrency.initial-limit:5}") int initialLimit,
+                                   @Value("${codef.concurrency.min-limit:1}") int minLimit,
+                                   @Value("${codef.concurrency.max-limit:20}") int maxLimit,
+                                   @Value("${codef.concurrency.target-latency-millis:3000}") long targetLatencyMillis,
+                                   @Value("${codef.concurrency.backoff-ratio:0.5}") double backoffRatio) {
+        if (minLimit <= 0 || maxLimit < minLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Codef 동시 호출 제한 설정값이 올바르지 않습니다.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyMillis = targetLatencyMillis;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * 동시 호출 슬롯 획득 - 한도에 도달했으면 빈 슬롯이 생길 때까지 대기
+     */
+    public synchronized void acquire() throws InterruptedException {
+        while (inFlight >= (int) limit) {
+            wait();
+        }
+        inFlight++;
+    }
+
+    /**
+     * 슬롯 반납
+     */
+    public synchronized void release() {
+        inFlight--;
+        notifyAll();
+    }
+
+    /**
+     * 실제 Codef 호출 결과로 한도 조정 (release 전에 호출)
+     */
+    public synchronized void onResult(boolean success, long elapsedMillis) {
+        if (!success || elapsedMillis > targetLatencyMillis) {
+            long now = System.currentTimeMillis();
+            if (now - lastDecreaseMillis >= targetLatencyMillis && limit > minLimit) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                lastDecreaseMillis = now;
+                log.info("Codef 동시 호출 한도 감소: {} (성공: {}, 응답시간: {}ms)", (int) limit, success, elapsedMillis);
+            }
+            return;
+        }
+
+        // 한도를 다 쓰고 있을 때만 늘림 (여유가 있는데 한도만 커지지 않도록)
+        if (inFlight >= (int) limit && limit < maxLimit) {
+            int before = (int) limit;
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+            if ((int) limit > before) {
+                log.debug("Codef 동시 호출 한도 증가: {}", (int) limit);
+                notifyAll();
+            }
+        }
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
@@ -0,0 +1,66 @@
+package com.savit.card.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Codef API 호출 속도 제한 (토큰 버킷)
+ * 초당 permitsPerSecond 개의 토큰이 채워지고, 최대 burst 개까지 쌓임
+ * 토큰이 없으면 다음 토큰이 채워질 때까지 호출 스레드를 대기시킴
+ */
+@Slf4j
+@Component
+public class CodefRateLimiter {
+
+    private final double permitsPerSecond;
+    private final double burst;
+
+    // 현재 남은 토큰 수 (예약된 호출이 있으면 음수가 될 수 있음)
+    private double storedPermits;
+    private long lastRefillNanos;
+
+    public CodefRateLimiter(@Value("${codef.rate-limit.permits-per-second:5}") double permitsPerSecond,
+                            @Value("${codef.rate-limit.burst:5}") int burst) {
+        if (permitsPerSecond <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("Codef 호출 제한 설정값은 0보다 커야 합니다.");
+        }
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.storedPermits = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * 토큰 1개 획득 - 토큰이 없으면 채워질 때까지 대기
+     */
+    public void acquire() throws InterruptedException {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            log.debug("Codef 호출 제한 대기: {}ms", TimeUnit.NANOSECONDS.toMillis(waitNanos));
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    // 토큰을 미리 차감하고 대기해야 할 시간을 반환 (대기는 락 밖에서)
+    private synchronized long reserve() {
+        refill(System.nanoTime());
+        storedPermits -= 1;
+        if (storedPermits >= 0) {
+            return 0L;
+        }
+        return (long) (-storedPermits / permitsPerSecond * TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private void refill(long now) {
+        double elapsedSeconds = (now - lastRefillNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+        storedPermits = Math.min(burst, storedPermits + elapsedSeconds * permitsPerSecond);
+        lastRefillNanos = now;
+    }
+
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+}
@@ -0,0 +1,150 @@
+package com.savit.card.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Resource;
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * Codef 응답 파서
+ * 응답 전체를 Map 트리로 만들지 않고 스트리밍으로 읽으면서 data 항목을 하나씩 DTO로 변환해 바로 넘겨줌
+ * 응답 원문 로그는 설정으로 켠 경우에만, 최대 길이만큼 잘라서 남김
+ */
+@Slf4j
+@Component
+public class CodefResponseParser {
+
+    public static final String SUCCESS_CODE = "CF-00000";
+
+    @Resource(name = "codefObjectMapper")
+    private ObjectMapper objectMapper;
+
+    // 응답 원문 로그 여부 (기본 off)
+    @Value("${codef.log.raw-response:false}")
+    private boolean logRawResponse;
+
+    // 로그/예외 메시지에 남길 응답 원문 최대 길이
+    @Value("${codef.log.raw-max-chars:2000}")
+    private int rawMaxChars;
+
+    /**
+     * data 가 배열이면 원소마다, 객체면 한 번 consumer 호출
+     * @return result 코드/메시지와 data 존재 여부
+     */
+    public <T> Summary forEachData(String productUrl, String resp, Class<T> type, Consumer<T> consumer) throws IOException {
+        logRaw(productUrl, resp);
+
+        Summary summary = new Summary();
+        try (JsonParser parser = objectMapper.getFactory().createParser(resp)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("예상치 못한 Codef 응답 형식: " + abbreviate(resp));
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+
+                if ("result".equals(field) && token == JsonToken.START_OBJECT) {
+                    readResult(parser, summary);
+                } else if ("data".equals(field) && token == JsonToken.START_ARRAY) {
+                    summary.hasData = true;
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        consumer.accept(parser.readValueAs(type));
+                        summary.dataCount++;
+                    }
+                } else if ("data".equals(field) && token == JsonToken.START_OBJECT) {
+                    summary.hasData = true;
+                    consumer.accept(parser.readValueAs(type));
+                    summary.dataCount++;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * 응답에서 data.{fieldName} 문자열 값 하나만 꺼냄 (없으면 null)
+     */
+    public String readDataField(String productUrl, String resp, String fieldName) throws IOException {
+        logRaw(productUrl, resp);
+        return objectMapper.readTree(resp).path("data").path(fieldName).asText(null);
+    }
+
+    /**
+     * 응답의 result.code 만 읽음 (JSON 이 아니거나 result 가 없으면 null)
+     */
+    public String readResultCode(String resp) {
+        if (resp == null) {
+            return null;
+        }
+        try (JsonParser parser = objectMapper.getFactory().createParser(resp)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if ("result".equals(field) && token == JsonToken.START_OBJECT) {
+                    Summary summary = new Summary();
+                    readResult(parser, summary);
+                    return summary.resultCode;
+                }
+                parser.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 로그/예외 메시지용으로 응답 원문을 최대 길이까지 자름
+     */
+    public String abbreviate(String resp) {
+        if (resp == null || resp.length() <= rawMaxChars) {
+            return resp;
+        }
+        return resp.substring(0, rawMaxChars) + "...(" + resp.length() + "자)";
+    }
+
+    private void readResult(JsonParser parser, Summary summary) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("code".equals(field)) {
+                summary.resultCode = parser.getValueAsString();
+            } else if ("message".equals(field)) {
+                summary.resultMessage = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void logRaw(String productUrl, String resp) {
+        if (logRawResponse) {
+            log.info("[CODEF] {} 응답 = {}", productUrl, abbreviate(resp));
+        }
+    }
+
+    @Getter
+    public static class Summary {
+        private String resultCode;
+        private String resultMessage;
+        private boolean hasData;
+        private int dataCount;
+
+        public boolean isSuccess() {
+            return SUCCESS_CODE.equals(resultCode);
+        }
+    }
+}
@@ -33,8 +33,6 @@ public class CodefUtil {
     @Value("${codef.public-key}") private String publicKey;
 
     public EasyCodef newClient() {
-        log.info("[CODEF] clientId = {}", clientId);
-        log.info("[CODEF] clientSecret = {}", clientSecret);
         EasyCodef codef = new EasyCodef();
         codef.setClientInfoForDemo(clientId, clientSecret);
         codef.setPublicKey(publicKey);
@@ -48,7 +46,7 @@ public class CodefUtil {
                  NoSuchPaddingException | InvalidKeyException |
                  IllegalBlockSizeException | BadPaddingException e) {
 
-            log.error("RSA 암호화 실패 – 입력=[{}]", plainText, e);
+            log.error("RSA 암호화 실패", e);
             throw new IllegalStateException("CODEF RSA 암호화 중 오류가 발생했습니다.", e);
         }
     }
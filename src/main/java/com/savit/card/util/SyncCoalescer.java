@@ -0,0 +1,126 @@
+package com.savit.card.util;
+
+import com.savit.card.dto.OnDemandSyncResult;
+import com.savit.card.dto.OnDemandSyncSource;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.concurrent.*;
+
+/**
+ * 같은 키의 동기화 요청 합치기
+ * - 진행 중인 동기화가 있으면 새로 호출하지 않고 그 결과를 기다림 (CodefTokenService 의 토큰 갱신과 같은 방식)
+ * - 끝난 지 freshMillis 가 지나지 않은 결과는 그대로 재사용
+ * - 실패한 결과는 재사용하지 않음 (기다리던 요청에는 같은 예외 전달)
+ */
+public class SyncCoalescer<K, V> {
+
+    // 오래된 결과 정리를 시도할 저장 건수 기준
+    private static final int PRUNE_THRESHOLD = 1000;
+
+    private final long freshMillis;
+    private final long waitMillis;
+
+    private final ConcurrentHashMap<K, CompletableFuture<Completed<V>>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<K, Completed<V>> recent = new ConcurrentHashMap<>();
+
+    public SyncCoalescer(long freshMillis, long waitMillis) {
+        this.freshMillis = freshMillis;
+        this.waitMillis = waitMillis;
+    }
+
+    public OnDemandSyncResult<V> run(K key, Callable<V> sync) throws Exception {
+        Optional<Completed<V>> fresh = findFresh(key);
+        if (fresh.isPresent()) {
+            return fresh.get().toResult(OnDemandSyncSource.CACHED);
+        }
+
+        CompletableFuture<Completed<V>> future = new CompletableFuture<>();
+        CompletableFuture<Completed<V>> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return await(existing).toResult(OnDemandSyncSource.COALESCED);
+        }
+
+        try {
+            Completed<V> completed = new Completed<>(sync.call(), System.currentTimeMillis());
+            // 진행 중 표시를 지우기 전에 결과를 먼저 저장해야 그 사이에 들어온 요청이 다시 호출하지 않음
+            remember(key, completed);
+            future.complete(completed);
+            return completed.toResult(OnDemandSyncSource.SYNCED);
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * 진행 중인 동기화가 있으면 결과를 기다려서 반환 (없으면 empty)
+     */
+    public Optional<OnDemandSyncResult<V>> awaitInFlight(K key) throws Exception {
+        CompletableFuture<Completed<V>> existing = inFlight.get(key);
+        if (existing == null) {
+            return Optional.empty();
+        }
+        return Optional.of(await(existing).toResult(OnDemandSyncSource.COALESCED));
+    }
+
+    /**
+     * freshMillis 안에 끝난 결과 (없으면 empty)
+     */
+    public Optional<OnDemandSyncResult<V>> getFresh(K key) {
+        return findFresh(key).map(completed -> completed.toResult(OnDemandSyncSource.CACHED));
+    }
+
+    /**
+     * 지금 진행 중인 동기화 키 목록
+     */
+    public Iterable<K> inFlightKeys() {
+        return inFlight.keySet();
+    }
+
+    private Optional<Completed<V>> findFresh(K key) {
+        Completed<V> completed = recent.get(key);
+        if (completed == null || System.currentTimeMillis() - completed.completedAtMillis >= freshMillis) {
+            return Optional.empty();
+        }
+        return Optional.of(completed);
+    }
+
+    private void remember(K key, Completed<V> completed) {
+        recent.put(key, completed);
+        if (recent.size() > PRUNE_THRESHOLD) {
+            long now = System.currentTimeMillis();
+            recent.values().removeIf(c -> now - c.completedAtMillis >= freshMillis);
+        }
+    }
+
+    private Completed<V> await(CompletableFuture<Completed<V>> future) throws Exception {
+        try {
+            return future.get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static final class Completed<V> {
+        private final V value;
+        private final long completedAtMillis;
+
+        private Completed(V value, long completedAtMillis) {
+            this.value = value;
+            this.completedAtMillis = completedAtMillis;
+        }
+
+        private OnDemandSyncResult<V> toResult(OnDemandSyncSource source) {
+            LocalDateTime syncedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(completedAtMillis), ZoneId.systemDefault());
+            return new OnDemandSyncResult<>(value, source, syncedAt);
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.savit.challenge.service;
 
 import com.savit.budget.domain.CategoryVO;
-import com.savit.budget.mapper.CategoryMapper;
+import com.savit.budget.service.CategoryCache;
 import com.savit.card.mapper.CardApprovalMapper;
 import com.savit.card.mapper.CardTransactionMapper;
 import com.savit.challenge.domain.ChallengeVO;
@@ -27,7 +27,7 @@ import java.util.Map;
 public class ChallengeServiceImpl implements ChallengeService {
 
     private final ChallengeMapper challengeMapper;
-    private final CategoryMapper categoryMapper;
+    private final CategoryCache categoryCache;
     private final CardApprovalMapper cardMapper;
     private final CardTransactionMapper cardTransactionMapper;
     private final ChallengeParticipationMapper challengeParticipationMapper;
@@ -59,7 +59,7 @@ public class ChallengeServiceImpl implements ChallengeService {
         }
 
         // 2. challengeVO로 카테고리 정보 가져오기
-        CategoryVO categoryVO = categoryMapper.findById(challengeVO.getCategoryId());
+        CategoryVO categoryVO = categoryCache.findById(challengeVO.getCategoryId());
         if (categoryVO == null) {
             throw new RuntimeException("카테고리 없음");
         }
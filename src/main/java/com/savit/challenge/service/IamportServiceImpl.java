@@ -5,6 +5,9 @@ import com.savit.card.domain.Card;
 import com.savit.card.domain.CardTransactionVO;
 import com.savit.card.mapper.CardMapper;
 import com.savit.card.mapper.CardTransactionMapper;
+import com.savit.card.service.DailySpendingRollupService;
+import com.savit.card.service.DashboardCache;
+import com.savit.card.util.ApprovalKeyGenerator;
 import com.savit.challenge.dto.IamportPaymentResponseDTO;
 import com.savit.challenge.mapper.ChallengeParticipationMapper;
 import com.savit.challenge.mapper.PaymentMapper;
@@ -19,6 +22,7 @@ import org.springframework.web.client.RestTemplate;
 import java.math.BigDecimal;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -31,6 +35,8 @@ public class IamportServiceImpl implements IamportService {
     private final ChallengeParticipationMapper participationMapper;
     private final CardMapper cardMapper;
     private final CardTransactionMapper cardTransactionMapper;
+    private final DailySpendingRollupService dailySpendingRollupService;
+    private final DashboardCache dashboardCache;
 
     @Value("${iamport.api-key}")
     private String apiKey;
@@ -114,10 +120,15 @@ public class IamportServiceImpl implements IamportService {
         tx.setCategoryId(null);
         tx.setResMemberStoreName(payment.getName());
         tx.setResMemberStoreType(payment.getPgProvider());
+        tx.setApprovalKey(ApprovalKeyGenerator.generate(
+                tx.getResCardNo(), tx.getResUsedDate(), tx.getResUsedTime(),
+                tx.getResUsedAmount(), tx.getResMemberStoreName()));
         tx.setCreatedAt(now);
         tx.setUpdatedAt(now);
 
         cardTransactionMapper.insert(tx);
+        dailySpendingRollupService.refresh(tx.getCardId(), List.of(tx.getResUsedDate()));
+        dashboardCache.invalidate(payment.getUserId());
         log.info("카드 트랜잭션 저장 완료: {}", tx);
     }
 
@@ -0,0 +1,18 @@
+package com.savit.common.exception;
+
+/**
+ * Codef 서킷 브레이커가 열려 있어서 호출하지 않고 바로 실패시킬 때 사용
+ */
+public class CodefCircuitOpenException extends RuntimeException {
+
+    private final long retryAfterMillis;
+
+    public CodefCircuitOpenException(long retryAfterMillis) {
+        super("Codef 서킷 브레이커 열림 - " + retryAfterMillis + "ms 후 재시도");
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
@@ -0,0 +1,37 @@
+package com.savit.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * 현재 서버 식별자
+ * 여러 서버가 공용 DB로 작업을 나누거나 잠글 때 어느 서버가 잡고 있는지 기록하는 데 사용
+ * server.node-id 가 없으면 호스트명 (같은 호스트에 여러 서버를 띄우면 서버마다 다르게 지정)
+ */
+@Slf4j
+@Component
+public class ServerNodeId {
+
+    private final String id;
+
+    public ServerNodeId(@Value("${server.node-id:${card-sync.node-id:}}") String configuredId) {
+        this.id = configuredId == null || configuredId.isBlank() ? resolveHostName() : configuredId;
+        log.info("서버 식별자: {}", id);
+    }
+
+    public String get() {
+        return id;
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "node-" + ProcessHandle.current().pid();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.savit.config;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CodefConfig {
+
+    /**
+     * Codef API 응답 파싱용 ObjectMapper
+     * 요청마다 새로 만들지 않고 공유하며, 응답에 DTO에 없는 필드가 있어도 무시
+     */
+    @Bean("codefObjectMapper")
+    public ObjectMapper codefObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return mapper;
+    }
+}
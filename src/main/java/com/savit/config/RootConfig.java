@@ -14,6 +14,8 @@ import org.springframework.context.annotation.PropertySource;
 import org.springframework.context.support.PropertySourcesPlaceholderConfigurer;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 import javax.sql.DataSource;
 
@@ -21,6 +23,7 @@ import javax.sql.DataSource;
 @PropertySource("classpath:/application.properties")
 @MapperScan(basePackages = "com.savit.**.mapper")
 @ComponentScan(basePackages = "com.savit")
+@EnableTransactionManagement
 public class RootConfig {
 
     @Bean
@@ -46,9 +49,9 @@ public class RootConfig {
         this.applicationContext = applicationContext;
     }
 
-    // DataSource 설정 (MySQL + HikariCP)
-    @Bean
-    public DataSource dataSource() {
+    // 커넥션 풀 설정 (MySQL + HikariCP)
+    @Bean(destroyMethod = "close")
+    public HikariDataSource hikariDataSource() {
         HikariConfig config = new HikariConfig();
         config.setDriverClassName(driver);
         config.setJdbcUrl(url);
@@ -60,6 +63,13 @@ public class RootConfig {
         return new HikariDataSource(config);
     }
 
+    // DataSource 설정 - 트랜잭션이 시작돼도 첫 SQL 실행 전까지는 풀에서 커넥션을 꺼내지 않음
+    // (트랜잭션 메서드 앞부분의 외부 API 호출 동안 커넥션을 점유하지 않도록)
+    @Bean
+    public DataSource dataSource() {
+        return new LazyConnectionDataSourceProxy(hikariDataSource());
+    }
+
     // SqlSessionFactory 설정
     @Bean
     public SqlSessionFactory sqlSessionFactory() throws Exception {
@@ -1,28 +1,71 @@
 package com.savit.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
-import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 내부 메서드 호출 방식 - 스케줄러 및 비동기 처리 설정
  * 카드 승인내역 자동 동기화 및 FCM 알림을 위한 스케줄러 활성화
+ *
+ * 작업 종류별로 스레드 풀을 나눠서 느린 작업이 다른 작업을 막지 않도록 함
+ * - taskScheduler: @Scheduled 실행용 (여러 잡이 같은 시각에 시작해도 서로 기다리지 않음)
+ * - cardSyncLeaseScheduler: 카드 동기화 작업 묶음 임대 연장 전용 (다른 잡이 스케줄러를 다 써도 임대가 만료되지 않도록)
+ * - taskExecutor / cardFetchExecutor: Codef 동기화
+ * - fcmExecutor: FCM 알림 발송
+ * - batchJobExecutor: DB 일괄 처리 잡
  */
+@Slf4j
 @Configuration
 @EnableScheduling    // 스케줄러 활성화
 @EnableAsync        // 비동기 처리 활성화
 public class SchedulerConfig {
+
+    /**
+     * @Scheduled 잡 실행용 스케줄러 스레드 풀
+     * 설정하지 않으면 모든 잡이 스레드 하나를 같이 써서, 오래 걸리는 카드 동기화 동안 다른 잡이 밀림
+     */
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${scheduler.pool-size:5}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("Scheduler-");
+        // 잡에서 던진 예외(작업 풀 포화로 거절된 경우 포함)는 로그만 남기고 다음 실행은 계속
+        scheduler.setErrorHandler(t -> log.error("스케줄러 잡 실행 중 오류", t));
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
     
+    /**
+     * 카드 동기화 작업 묶음 임대 연장 전용 스케줄러
+     * 임대 연장이 taskScheduler 를 같이 쓰면, 오래 걸리는 잡들로 풀이 다 찼을 때 묶음 처리 중 임대가 만료돼
+     * 다른 서버가 같은 묶음을 가져가서 같은 Codef 호출을 반복함
+     */
+    @Bean(name = "cardSyncLeaseScheduler")
+    public ThreadPoolTaskScheduler cardSyncLeaseScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("CardSyncLease-");
+        scheduler.setErrorHandler(t -> log.error("카드 동기화 임대 연장 중 오류", t));
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
     /**
      * 내부 메서드 호출 방식 - 비동기 작업용 스레드 풀 설정
      * 카드 승인내역 동기화 시 외부 API 호출을 병렬 처리하기 위해 사용
      */
     @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
+    public ThreadPoolTaskExecutor taskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         
         // 기본 스레드 수 (항상 유지되는 스레드)
@@ -51,4 +94,63 @@ public class SchedulerConfig {
         
         return executor;
     }
-}
\ No newline at end of file
+
+    /**
+     * 내부 메서드 호출 방식 - 카드별 Codef 조회용 스레드 풀
+     * 한 사용자의 여러 카드를 동시에 조회할 때 사용 (사용자 단위 작업은 taskExecutor에서 실행)
+     * 실제 호출 속도는 CodefRateLimiter가 전역으로 제한하고, 풀이 가득 차면 호출한 스레드에서 직접 실행
+     */
+    @Bean(name = "cardFetchExecutor")
+    public ThreadPoolTaskExecutor cardFetchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(5);
+        executor.setMaxPoolSize(10);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("CardFetch-");
+        executor.setKeepAliveSeconds(60);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * FCM 알림 발송용 스레드 풀
+     * 카드 동기화 중 예산 알림을 보낼 때 FCM 응답을 기다리느라 Codef 동기화 스레드가 묶이지 않도록 분리
+     * 큐가 가득 차면 알림을 버리지 않고 호출한 스레드에서 직접 발송 (자연스럽게 속도 조절)
+     */
+    @Bean(name = "fcmExecutor")
+    public ThreadPoolTaskExecutor fcmExecutor(@Value("${scheduler.fcm.pool-size:4}") int poolSize,
+                                              @Value("${scheduler.fcm.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("Fcm-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * DB 일괄 처리 잡용 스레드 풀 (챌린지 상태 변경, 일일 지출 집계, 과거 거래 재분류 등)
+     * 스케줄러 스레드는 잡을 넘기기만 하고 바로 돌아옴
+     * 큐가 가득 차면 새 잡은 거절 (스케줄러 오류 로그로 남고 다음 주기에 다시 실행)
+     */
+    @Bean(name = "batchJobExecutor")
+    public ThreadPoolTaskExecutor batchJobExecutor(@Value("${scheduler.batch.pool-size:2}") int poolSize,
+                                                   @Value("${scheduler.batch.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("BatchJob-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+}
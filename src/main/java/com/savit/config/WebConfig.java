@@ -66,7 +66,7 @@ public class WebConfig extends AbstractAnnotationConfigDispatcherServletInitiali
                         .allowedOriginPatterns("*")
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                         .allowedHeaders("*")
-                        .exposedHeaders("Authorization")
+                        .exposedHeaders("Authorization", "X-Sync-Source")
                         .allowCredentials(true);
             }
 
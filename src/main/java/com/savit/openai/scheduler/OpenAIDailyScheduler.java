@@ -1,6 +1,7 @@
 package com.savit.openai.scheduler;
 
 import com.savit.openai.service.OpenAIInternalService;
+import com.savit.scheduler.lock.SchedulerLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -21,6 +22,7 @@ public class OpenAIDailyScheduler {
      * 테스트 위해 주석처리
      */
 //    @Scheduled(cron = "0 0 1 * * ?")
+    @SchedulerLock(name = "openai.refresh-daily-answers", lockAtMostFor = "PT1H")
     public void refreshDailyAnswers() {
         log.info("=== OpenAI 일일 답변 갱신 스케줄러 시작 ===");
         
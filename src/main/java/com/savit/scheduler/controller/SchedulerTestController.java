@@ -4,18 +4,26 @@ import com.savit.budget.service.BudgetMonitoringService;
 import com.savit.card.dto.BudgetMonitoringDTO;
 import com.savit.card.service.AsyncCardApprovalService;
 import com.savit.card.service.CardApprovalService;
+import com.savit.card.service.CardSyncPlanner;
+import com.savit.card.service.CardSyncRunService;
 import com.savit.notification.service.NotificationService;
 import com.savit.scheduler.job.*;
+import com.savit.scheduler.lock.SchedulerLockService;
 import com.savit.user.mapper.UserMapper;
 import com.savit.user.domain.User;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Collectors;
 
 /**
@@ -34,11 +42,19 @@ public class SchedulerTestController {
     private final BudgetMonitoringService budgetMonitoringService;
     private final CardApprovalService cardApprovalService;
     private final NotificationService notificationService;
+    private final CardSyncRunService cardSyncRunService;
+    private final CardSyncPlanner cardSyncPlanner;
+    private final SchedulerLockService schedulerLockService;
     private final UserMapper userMapper;
+    @Qualifier("taskScheduler")
+    private final ThreadPoolTaskScheduler taskScheduler;
+    // 작업 종류별 스레드 풀 (빈 이름 -> 풀)
+    private final Map<String, ThreadPoolTaskExecutor> workloadExecutors;
 
     private final ChallengeDropoutScheduler challengeDropoutScheduler;
     private final DailyTopSpendingScheduler dailyTopSpendingScheduler;
     private final ChallengeStartNotificationScheduler challengeStartNotificationScheduler;
+    private final DailySpendingRollupScheduler dailySpendingRollupScheduler;
 
 
     /**
@@ -208,10 +224,18 @@ public class SchedulerTestController {
             response.put("status", "active");
             response.put("message", "스케줄러가 정상 동작 중입니다");
             response.put("schedulers", Map.of(
-                    "cardApprovalScheduler", "08:00, 12:00, 18:00, 00:00 실행",
+                    "cardApprovalScheduler", "매시간 정각 실행 (사용자별 우선순위/주기에 따라 대상 선정)",
                     "randomNaggingScheduler", "매 30분마다 실행 (07:00-01:00)",
                     "healthCheckScheduler", "매시간 정각 실행"
             ));
+            // 최근 카드 승인내역 동기화 실행 현황 (사용자 상태별 집계, 최근 실패/보류 사용자)
+            response.put("cardSyncRun", cardSyncRunService.getLatestRunStatus());
+            // 마지막 동기화 대상 선정 결과 (등급별 사용자 수, 하루 예산/사용량)
+            response.put("cardSyncPlan", cardSyncPlanner.getLastPlan());
+            // 스케줄 작업 잠금별 획득/건너뜀/오류 횟수 (이 서버 기준)
+            response.put("schedulerLocks", schedulerLockService.getStats());
+            // 스케줄러/작업 종류별 스레드 풀 사용 현황
+            response.put("executors", getExecutorStats());
             response.put("timestamp", System.currentTimeMillis());
 
             return ResponseEntity.ok(response);
@@ -223,6 +247,24 @@ public class SchedulerTestController {
         }
     }
 
+    private Map<String, Object> getExecutorStats() {
+        Map<String, Object> stats = new TreeMap<>();
+        stats.put("taskScheduler", toStats(taskScheduler.getScheduledThreadPoolExecutor()));
+        workloadExecutors.forEach((name, executor) -> stats.put(name, toStats(executor.getThreadPoolExecutor())));
+        return stats;
+    }
+
+    private Map<String, Object> toStats(ThreadPoolExecutor executor) {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("active", executor.getActiveCount());
+        stats.put("poolSize", executor.getPoolSize());
+        stats.put("maxPoolSize", executor.getMaximumPoolSize());
+        stats.put("queued", executor.getQueue().size());
+        stats.put("queueRemaining", executor.getQueue().remainingCapacity());
+        stats.put("completed", executor.getCompletedTaskCount());
+        return stats;
+    }
+
     /**
      * 챌린지 일일 낙오 요약 알림 테스트
      */
@@ -262,7 +304,7 @@ public class SchedulerTestController {
             dailyTopSpendingScheduler.collectDailyTopSpending();
 
             response.put("status", "success");
-            response.put("message", "일일 최고 지출 데이터 수집 완료");
+            response.put("message", "일일 최고 지출 데이터 수집 요청 완료 (batchJobExecutor 에서 실행)");
             response.put("timestamp", System.currentTimeMillis());
 
             return ResponseEntity.ok(response);
@@ -275,6 +317,32 @@ public class SchedulerTestController {
         }
     }
 
+    /**
+     * 일자별 지출 집계 전체 재계산 테스트
+     */
+    @PostMapping("/daily-spending-rollup/rebuild")
+    public ResponseEntity<Map<String, Object>> testRebuildDailySpendingRollup() {
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            log.info("=== 일자별 지출 집계 재계산 수동 테스트 시작 ===");
+
+            dailySpendingRollupScheduler.rebuildDailySpendingRollup();
+
+            response.put("status", "success");
+            response.put("message", "일자별 지출 집계 재계산 요청 완료 (batchJobExecutor 에서 실행)");
+            response.put("timestamp", System.currentTimeMillis());
+
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("일자별 지출 집계 재계산 테스트 실패", e);
+            response.put("status", "error");
+            response.put("message", "실행 실패: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
     /**
      * 일일 최고 지출 알림 발송 테스트
      */
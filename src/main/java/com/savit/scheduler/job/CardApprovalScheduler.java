@@ -1,73 +1,71 @@
 package com.savit.scheduler.job;
 
-import com.savit.card.service.AsyncCardApprovalService;
-import com.savit.user.mapper.UserMapper;
-import com.savit.user.domain.User;
+import com.savit.card.dto.CardSyncPlan;
+import com.savit.card.dto.CardSyncReport;
+import com.savit.card.service.CardSyncPlanner;
+import com.savit.card.service.CardSyncRunner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 /**
  * 내부 메서드 호출 방식 - 카드 승인내역 자동 동기화 스케줄러
- * 06:00, 12:00, 18:00, 00:00에 실행되어 모든 사용자의 카드 승인내역을 자동으로 동기화
+ * 매시간 실행되어 CardSyncPlanner 가 고른 사용자(접속/챌린지/예산 상태별 주기가 돌아온 사용자)의 카드 승인내역을 동기화
+ * 모든 서버가 작업 묶음을 나눠서 함께 처리하므로 @SchedulerLock 을 붙이지 않음 (CardSyncRunner 참고)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CardApprovalScheduler {
 
-    private final AsyncCardApprovalService asyncCardApprovalService;
-    private final UserMapper userMapper;
+    private static final DateTimeFormatter RUN_KEY_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmm");
+
+    private final CardSyncRunner cardSyncRunner;
+    private final CardSyncPlanner cardSyncPlanner;
 
     /**
-     * 내부 메서드 호출 방식 - 카드 승인내역 자동 동기화 (하루 4회)
-     * 06:00, 12:00, 18:00, 00:00에 실행
+     * 내부 메서드 호출 방식 - 카드 승인내역 자동 동기화 (매시간 정각)
+     * 자주 쓰는 사용자는 자주, 오래 접속하지 않은 사용자는 하루 한 번 (하루 전체 횟수는 기존 하루 4회 기준 이내)
      * cron = "초 분 시 일 월 요일"
      */
-    @Scheduled(cron = "0 0 6,12,18,0 * * *")
+    @Scheduled(cron = "0 0 * * * *")
     public void syncAllUsersCardApprovals() {
         log.info("===== 카드 승인내역 자동 동기화 스케줄러 시작 =====");
 
         try {
-            // 1. 활성 사용자 목록 조회 (카드가 등록된 사용자만)
-            List<User> activeUsers = userMapper.findUsersWithCards();
+            // 1. 이번 시간 동기화 대상 선정 (카드가 등록된 사용자 중 우선순위/주기/하루 예산 기준)
+            LocalDateTime now = LocalDateTime.now();
+            CardSyncPlan plan = cardSyncPlanner.plan(now);
+            List<Long> userIds = plan.getUserIds();
 
-            if (activeUsers.isEmpty()) {
-                log.info("카드가 등록된 활성 사용자가 없습니다. 스케줄러를 종료합니다.");
+            if (userIds.isEmpty()) {
+                log.info("이번 시간 카드 승인내역 동기화 대상 사용자가 없습니다. 스케줄러를 종료합니다.");
                 return;
             }
 
-            log.info("카드 승인내역 동기화 대상 사용자: {}명", activeUsers.size());
-
-            // 2. 각 사용자별로 비동기 처리 시작
-            List<Long> userIds = activeUsers.stream()
-                    .map(User::getId)
-                    .collect(Collectors.toList());
+            log.info("카드 승인내역 동기화 대상 사용자: {}명 (주기 도래: {}명, 등급별: {})",
+                    userIds.size(), plan.getDueUsers(), plan.getTierCounts());
 
-            int processedCount = 0;
-            for (Long userId : userIds) {
-                try {
-                    // 내부 메서드 호출 방식 - 비동기로 사용자별 카드 승인내역 처리
-                    asyncCardApprovalService.processUserCardApprovalsAsync(userId);
-                    processedCount++;
+            // 2. 각 사용자별로 비동기 처리 (동시 처리 수 / Codef 호출 속도 제한은 dispatcher 에서 관리)
 
-                    // 외부 API 호출 부하 분산을 위한 대기시간 (5000ms)
-                    Thread.sleep(5000);
-
-                } catch (Exception e) {
-                    log.error("사용자 {} 카드 승인내역 처리 시작 실패", userId, e);
-                }
+            // 실행 기록을 남기면서 처리 (서버 재시작 시 끝나지 않은 사용자만 이어서 처리)
+            // 모든 서버가 같은 runKey 실행에 참여하고, 작업 묶음을 나눠 가져서 자기 몫만 처리
+            String runKey = "SCHEDULED-" + now.format(RUN_KEY_FORMATTER);
+            Optional<CardSyncReport> result = cardSyncRunner.run(runKey, userIds);
+            if (result.isEmpty()) {
+                return;
             }
+            CardSyncReport report = result.get();
 
             // 3. 처리 현황 로깅
-            asyncCardApprovalService.logAsyncProcessingStatus(activeUsers.size(), processedCount);
-
-            log.info("===== 카드 승인내역 자동 동기화 스케줄러 완료 - 처리 시작: {}명 =====", processedCount);
+            log.info("===== 카드 승인내역 자동 동기화 스케줄러 완료 - 성공: {}명, 실패: {}명, 보류: {}명, 미완료: {}명 =====",
+                    report.getSucceededUsers(), report.getFailedUsers(), report.getSkippedUsers(), report.getUnfinishedUsers());
 
         } catch (Exception e) {
             log.error("카드 승인내역 자동 동기화 스케줄러 실행 중 오류 발생", e);
@@ -3,6 +3,7 @@ package com.savit.scheduler.job;
 import com.savit.challenge.dto.ChallengeDropoutSummaryDTO;
 import com.savit.challenge.mapper.ChallengeMapper;
 import com.savit.notification.service.NotificationService;
+import com.savit.scheduler.lock.SchedulerLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -28,6 +29,7 @@ public class ChallengeDropoutScheduler {
      * 실제 운영시 주석 해제해야함
      */
 //    @Scheduled(cron = "0 0 22 * * *")
+    @SchedulerLock(name = "challenge-dropout.daily-summary", lockAtMostFor = "PT30M")
     public void sendDailyDropoutSummary() {
         log.info("===== 챌린지별 일일 낙오 요약 알림 발송 시작 =====");
 
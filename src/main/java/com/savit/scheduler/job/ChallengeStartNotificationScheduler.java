@@ -5,6 +5,7 @@ import com.savit.challenge.mapper.ChallengeMapper;
 import com.savit.challenge.service.ChallengeService;
 import com.savit.notification.dto.ChallengeNotificationDTO;
 import com.savit.notification.service.NotificationService;
+import com.savit.scheduler.lock.SchedulerLock;
 import com.savit.user.domain.User;
 import com.savit.user.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
@@ -37,6 +38,7 @@ public class ChallengeStartNotificationScheduler {
      * 테스트용으로 일단 @Scheduled 주석처리
      */
     // @Scheduled(cron = "0 30 21 * * *")
+    @SchedulerLock(name = "challenge-start.tomorrow", lockAtMostFor = "PT30M")
     public void sendTomorrowChallengeStartNotifications() {
         log.info("===== 내일 시작 챌린지 알림 발송 시작 =====");
 
@@ -117,6 +119,7 @@ public class ChallengeStartNotificationScheduler {
      * 테스트용으로 일단 @Scheduled 주석처리
      */
     // @Scheduled(cron = "0 30 7 * * *")
+    @SchedulerLock(name = "challenge-start.today", lockAtMostFor = "PT30M")
     public void sendTodayChallengeStartNotifications() {
         log.info("===== 오늘 시작 챌린지 알림 발송 시작 =====");
 
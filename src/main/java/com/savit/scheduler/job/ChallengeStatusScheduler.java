@@ -5,8 +5,10 @@ package com.savit.scheduler.job;
 
 import com.savit.challenge.service.ChallengeCompletionService;
 import com.savit.challenge.service.ChallengeProgressService;
+import com.savit.scheduler.lock.SchedulerLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -18,9 +20,12 @@ public class ChallengeStatusScheduler {
 
     // 챌린지 완료 처리 - 매일 00:00 시에 실행
     // 종료일이 된 챌린지의 PARTICIPATING 참여자들을 SUCCESS 로 변경
+    // DB 일괄 처리라서 batchJobExecutor 에서 실행 (스케줄러 스레드는 바로 반환)
 
 
     @Scheduled(cron = "0 0 0 * * *")
+    @Async("batchJobExecutor")
+    @SchedulerLock(name = "challenge-status.check-completed", lockAtMostFor = "PT30M")
     public void checkCompletedChallenges() {
         log.info("===========챌린지 완료 처리 스케쥴러 시작 =========");
 
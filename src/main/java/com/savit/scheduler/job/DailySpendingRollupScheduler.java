@@ -0,0 +1,46 @@
+package com.savit.scheduler.job;
+
+import com.savit.card.service.DailySpendingRollupService;
+import com.savit.scheduler.lock.SchedulerLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 일자별 지출 집계 재계산 스케줄러
+ * - 저장 시점 갱신이 빠진 경우(직접 DB 수정, 배포 중 실패 등)를 대비해 매일 03:30 원본 거래로 전체 재계산
+ * - 카드 단위 트랜잭션이라 한 카드가 실패해도 나머지는 계속 진행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailySpendingRollupScheduler {
+
+    private final DailySpendingRollupService dailySpendingRollupService;
+
+    @Scheduled(cron = "0 30 3 * * *")
+    @Async("batchJobExecutor")
+    @SchedulerLock(name = "daily-spending-rollup.rebuild", lockAtMostFor = "PT2H")
+    public void rebuildDailySpendingRollup() {
+        log.info("===== 일자별 지출 집계 재계산 시작 =====");
+
+        List<Long> cardIds = dailySpendingRollupService.findAllCardIds();
+        int rows = 0;
+        int failed = 0;
+        for (Long cardId : cardIds) {
+            try {
+                rows += dailySpendingRollupService.rebuildCard(cardId);
+            } catch (Exception e) {
+                failed++;
+                log.error("카드 {} 지출 집계 재계산 실패", cardId, e);
+            }
+        }
+
+        log.info("===== 일자별 지출 집계 재계산 완료 - 카드: {}장, 집계: {}행, 실패: {}장 =====",
+                cardIds.size(), rows, failed);
+    }
+}
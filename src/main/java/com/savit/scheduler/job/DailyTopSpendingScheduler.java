@@ -1,21 +1,27 @@
 package com.savit.scheduler.job;
 
 import com.savit.card.mapper.CardTransactionMapper;
+import com.savit.card.service.DailySpendingRollupService;
 import com.savit.notification.domain.DailyTopSpending;
 import com.savit.notification.mapper.DailyTopSpendingMapper;
 import com.savit.notification.service.NotificationService;
+import com.savit.scheduler.lock.SchedulerLock;
 import com.savit.user.domain.User;
 import com.savit.user.mapper.UserMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * 일일 최고 지출 알림 스케줄러
@@ -31,23 +37,30 @@ public class DailyTopSpendingScheduler {
     private final DailyTopSpendingMapper dailyTopSpendingMapper;
     private final NotificationService notificationService;
     private final UserMapper userMapper;
+    private final DailySpendingRollupService dailySpendingRollupService;
 
     /**
      * 실제 운영용 코드임
      * 전날 최고 지출 데이터 수집 (매일 00:15)
+     * DB 일괄 처리라서 batchJobExecutor 에서 실행
      */
     @Scheduled(cron = "0 15 0 * * *")
+    @Async("batchJobExecutor")
+    @SchedulerLock(name = "daily-top-spending.collect", lockAtMostFor = "PT30M")
     public void collectDailyTopSpending() {
         log.info("===== 일일 최고 지출 데이터 수집 시작 =====");
 
         try {
             // 전날 날짜 (YYYYMMDD 형식)
-            String yesterday = LocalDate.now().minusDays(1)
-                    .format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+            LocalDate targetDate = LocalDate.now().minusDays(1);
+            String yesterday = targetDate.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
             log.info("수집 대상 날짜: {}", yesterday);
 
-            // FCM 토큰이 있는 활성 사용자 목록 조회
-            List<User> activeUsers = userMapper.findUsersWithFcmTokens();
+            // FCM 토큰이 있는 활성 사용자 중 전날 지출이 있는 사용자만 (일자별 지출 집계로 확인)
+            Set<Long> spentUserIds = new HashSet<>(dailySpendingRollupService.findUserIdsWithSpendingOn(targetDate));
+            List<User> activeUsers = userMapper.findUsersWithFcmTokens().stream()
+                    .filter(user -> spentUserIds.contains(user.getId()))
+                    .collect(Collectors.toList());
             log.info("대상 사용자 수: {}명", activeUsers.size());
 
             int savedCount = 0;
@@ -96,6 +109,7 @@ public class DailyTopSpendingScheduler {
      * 일일 최고 지출 알림 발송 (매일 09:00)
      */
     @Scheduled(cron = "0 0 9 * * *")
+    @SchedulerLock(name = "daily-top-spending.notify", lockAtMostFor = "PT30M")
     public void sendDailyTopSpendingNotifications() {
         log.info("===== 일일 최고 지출 알림 발송 시작 =====");
 
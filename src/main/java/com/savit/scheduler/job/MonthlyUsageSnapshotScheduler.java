@@ -0,0 +1,35 @@
+package com.savit.scheduler.job;
+
+import com.savit.card.service.MonthlyUsageSnapshotService;
+import com.savit.scheduler.lock.SchedulerLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 월 지출 스냅샷 마감 스케줄러
+ * - 매일 04:30 (일자별 지출 집계 재계산 이후) 가장 최근 마감 월 스냅샷을 전체 사용자에 대해 저장
+ * - 이미 저장된 사용자는 건너뛰므로 매일 돌아도 마감일 이후 가입자만 추가됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MonthlyUsageSnapshotScheduler {
+
+    private final MonthlyUsageSnapshotService monthlyUsageSnapshotService;
+
+    @Scheduled(cron = "0 30 4 * * *")
+    @Async("batchJobExecutor")
+    @SchedulerLock(name = "monthly-usage-snapshot.finalize", lockAtMostFor = "PT30M")
+    public void finalizeMonthlyUsageSnapshots() {
+        try {
+            monthlyUsageSnapshotService.finalizeLatestClosedMonth(LocalDate.now());
+        } catch (Exception e) {
+            log.error("월 지출 스냅샷 마감 중 오류 발생", e);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.savit.scheduler.job;
 
 import com.savit.notification.service.NotificationService;
+import com.savit.scheduler.lock.SchedulerLock;
 import com.savit.user.mapper.UserMapper;
 import com.savit.user.domain.User;
 import lombok.RequiredArgsConstructor;
@@ -74,6 +75,7 @@ public class RandomNaggingScheduler {
      * 08:00, 12:00, 16:00, 20:00에 실행
      */
     @Scheduled(cron = "0 0 8,12,16,20 * * *") // 08:00, 12:00, 16:00, 20:00에 실행
+    @SchedulerLock(name = "random-nagging.send", lockAtMostFor = "PT30M")
     public void sendRandomNaggingNotifications() {
         log.info("===== 랜덤 잔소리 알림 스케줄러 시작 (4시간마다) =====");
 
@@ -119,6 +121,7 @@ public class RandomNaggingScheduler {
      * 하루를 마무리하는 시간에 푸시 발송
      */
     @Scheduled(cron = "0 0 21 * * *") // 매일 오후 9시
+    @SchedulerLock(name = "random-nagging.daily-wrap-up", lockAtMostFor = "PT30M")
     public void sendDailyWrapUpNagging() {
         log.info("===== 하루 마무리 알림 시작 =====");
 
@@ -0,0 +1,27 @@
+package com.savit.scheduler.lock;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 서버 중 한 서버에서만 실행할 스케줄 작업 표시
+ * 실행 전에 공용 DB의 SchedulerLock 행을 임대하고, 이미 다른 서버가 잡고 있으면 실행하지 않고 건너뜀
+ * 시간 값은 ISO-8601 기간 형식 (예: PT10M, PT30S)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SchedulerLock {
+
+    /** 잠금 이름 (작업마다 고유하게) */
+    String name();
+
+    /** 최대 잠금 시간 - 잡고 있던 서버가 죽어도 이 시간이 지나면 풀림 (작업 소요 시간보다 넉넉하게) */
+    String lockAtMostFor() default "PT10M";
+
+    /** 최소 잠금 시간 - 작업이 빨리 끝나도 이 시간 동안은 유지 (서버 간 시계 차이로 같은 틱에 다시 실행되지 않도록) */
+    String lockAtLeastFor() default "PT30S";
+}
@@ -0,0 +1,30 @@
+package com.savit.scheduler.lock;
+
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+/**
+ * @SchedulerLock 이 붙은 메서드를 가진 빈을 프록시로 감싸서 잠금을 적용
+ * (@Async 처리 방식과 같은 빈 후처리기 방식 - AspectJ 없이 동작)
+ * 스케줄러 등록(ScheduledAnnotationBeanPostProcessor)보다 먼저 프록시를 만들어야 스케줄 실행에도 잠금이 적용되므로 가장 먼저 실행
+ */
+@Component
+public class SchedulerLockBeanPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    public SchedulerLockBeanPostProcessor() {
+        setOrder(Ordered.HIGHEST_PRECEDENCE);
+        setBeforeExistingAdvisors(true);
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        super.setBeanFactory(beanFactory);
+        this.advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(SchedulerLock.class),
+                new SchedulerLockInterceptor(beanFactory));
+    }
+}
@@ -0,0 +1,57 @@
+package com.savit.scheduler.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+/**
+ * @SchedulerLock 메서드 실행 전후로 잠금 획득/해제
+ * 잠금을 얻지 못하면 메서드를 실행하지 않고 null 반환
+ * SchedulerLockService 는 빈 후처리기 초기화 시점에 만들지 않도록 첫 호출 때 꺼내서 사용
+ */
+@Slf4j
+public class SchedulerLockInterceptor implements MethodInterceptor {
+
+    private final BeanFactory beanFactory;
+    private volatile SchedulerLockService schedulerLockService;
+
+    public SchedulerLockInterceptor(BeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), invocation.getThis().getClass());
+        SchedulerLock lock = AnnotatedElementUtils.findMergedAnnotation(method, SchedulerLock.class);
+        if (lock == null) {
+            return invocation.proceed();
+        }
+
+        SchedulerLockService lockService = lockService();
+        if (!lockService.tryLock(lock.name(), Duration.parse(lock.lockAtMostFor()))) {
+            log.info("다른 서버가 실행 중인 스케줄 작업 건너뜀 - lock: {}", lock.name());
+            return null;
+        }
+
+        try {
+            return invocation.proceed();
+        } finally {
+            lockService.unlock(lock.name(), Duration.parse(lock.lockAtLeastFor()));
+        }
+    }
+
+    private SchedulerLockService lockService() {
+        SchedulerLockService service = schedulerLockService;
+        if (service == null) {
+            service = beanFactory.getBean(SchedulerLockService.class);
+            schedulerLockService = service;
+        }
+        return service;
+    }
+}
@@ -0,0 +1,91 @@
+package com.savit.scheduler.lock;
+
+import com.savit.common.util.ServerNodeId;
+import com.savit.scheduler.mapper.SchedulerLockMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 공용 DB 기반 스케줄 작업 잠금
+ * 잠금 행의 locked_until 이 지났을 때만 조건부 UPDATE 로 가져가므로 같은 시각에 여러 서버가 시도해도 한 서버만 성공
+ * 잠금 이름별 획득/건너뜀/오류 횟수를 모아서 상태 조회 API에 노출
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SchedulerLockService {
+
+    private final SchedulerLockMapper schedulerLockMapper;
+    private final ServerNodeId serverNodeId;
+
+    private final Map<String, LockStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * 잠금 획득 시도 - DB 오류가 나면 중복 실행을 막기 위해 획득 실패로 처리
+     */
+    public boolean tryLock(String lockName, Duration lockAtMostFor) {
+        LockStats lockStats = statsOf(lockName);
+        try {
+            String nodeId = serverNodeId.get();
+            long lockAtMostMillis = lockAtMostFor.toMillis();
+            boolean acquired = schedulerLockMapper.insertLock(lockName, nodeId, lockAtMostMillis) == 1
+                    || schedulerLockMapper.acquireExpiredLock(lockName, nodeId, lockAtMostMillis) == 1;
+
+            if (acquired) {
+                lockStats.acquired.incrementAndGet();
+                lockStats.lastAcquiredAt = LocalDateTime.now();
+            } else {
+                lockStats.skipped.incrementAndGet();
+                lockStats.lastSkippedAt = LocalDateTime.now();
+            }
+            return acquired;
+
+        } catch (Exception e) {
+            lockStats.errors.incrementAndGet();
+            log.error("스케줄 작업 잠금 획득 실패 - lock: {} (이번 실행은 건너뜀)", lockName, e);
+            return false;
+        }
+    }
+
+    /**
+     * 잠금 해제 - 최소 잠금 시간이 남아 있으면 그때까지는 유지
+     */
+    public void unlock(String lockName, Duration lockAtLeastFor) {
+        try {
+            schedulerLockMapper.releaseLock(lockName, serverNodeId.get(), lockAtLeastFor.toMillis());
+        } catch (Exception e) {
+            // 해제하지 못해도 lockAtMostFor 가 지나면 풀림
+            statsOf(lockName).errors.incrementAndGet();
+            log.error("스케줄 작업 잠금 해제 실패 - lock: {}", lockName, e);
+        }
+    }
+
+    /**
+     * 잠금 이름별 통계 (이 서버 기준, 서버 시작 이후 누적)
+     */
+    public Map<String, LockStats> getStats() {
+        return new TreeMap<>(stats);
+    }
+
+    private LockStats statsOf(String lockName) {
+        return stats.computeIfAbsent(lockName, name -> new LockStats());
+    }
+
+    @Getter
+    public static class LockStats {
+        private final AtomicLong acquired = new AtomicLong();   // 이 서버가 잠금을 잡고 실행한 횟수
+        private final AtomicLong skipped = new AtomicLong();    // 다른 서버가 잡고 있어서 건너뛴 횟수
+        private final AtomicLong errors = new AtomicLong();     // 잠금 획득/해제 중 DB 오류 횟수
+        private volatile LocalDateTime lastAcquiredAt;
+        private volatile LocalDateTime lastSkippedAt;
+    }
+}
@@ -0,0 +1,29 @@
+package com.savit.scheduler.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface SchedulerLockMapper {
+
+    /**
+     * 처음 쓰는 잠금이면 행을 만들면서 잠금 (이미 행이 있으면 0)
+     */
+    int insertLock(@Param("lockName") String lockName,
+                   @Param("nodeId") String nodeId,
+                   @Param("lockAtMostMillis") long lockAtMostMillis);
+
+    /**
+     * 만료된 잠금을 가져옴 (아직 다른 서버가 잡고 있으면 0)
+     */
+    int acquireExpiredLock(@Param("lockName") String lockName,
+                           @Param("nodeId") String nodeId,
+                           @Param("lockAtMostMillis") long lockAtMostMillis);
+
+    /**
+     * 작업 종료 후 잠금 해제 (최소 잠금 시간은 유지)
+     */
+    int releaseLock(@Param("lockName") String lockName,
+                    @Param("nodeId") String nodeId,
+                    @Param("lockAtLeastMillis") long lockAtLeastMillis);
+}
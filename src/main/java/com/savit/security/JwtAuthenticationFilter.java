@@ -1,6 +1,7 @@
 package com.savit.security;
 
 import com.savit.common.exception.JwtTokenException;
+import com.savit.user.service.UserActivityService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -14,6 +15,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter implements Filter {
 
     private final JwtUtil jwtUtil;
+    private final UserActivityService userActivityService;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
@@ -31,6 +33,8 @@ public class JwtAuthenticationFilter implements Filter {
         try {
             Long userId = jwtUtil.getUserIdFromToken(httpRequest);
             httpRequest.setAttribute("userId", userId.toString());
+            // 카드 동기화 우선순위 계산용 마지막 접속 시각
+            userActivityService.recordAccess(userId);
         } catch (JwtTokenException e) {
             httpResponse.setStatus(401);
             httpResponse.setCharacterEncoding("UTF-8");
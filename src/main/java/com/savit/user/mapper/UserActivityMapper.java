@@ -0,0 +1,15 @@
+package com.savit.user.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+
+@Mapper
+public interface UserActivityMapper {
+
+    /**
+     * 마지막 앱 접속 시각 기록 (이미 더 최근 시각이 있으면 유지)
+     */
+    void upsertLastAccess(@Param("userId") Long userId, @Param("accessedAt") LocalDateTime accessedAt);
+}
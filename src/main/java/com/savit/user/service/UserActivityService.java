@@ -0,0 +1,46 @@
+package com.savit.user.service;
+
+import com.savit.user.mapper.UserActivityMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 앱 접속 기록
+ * - 인증된 요청마다 호출되지만, 사용자당 writeIntervalMinutes 에 한 번만 DB에 기록
+ * - 기록 실패는 요청 처리에 영향을 주지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserActivityService {
+
+    private final UserActivityMapper userActivityMapper;
+
+    @Value("${user.activity.write-interval-minutes:10}")
+    private long writeIntervalMinutes;
+
+    // 사용자별 마지막으로 DB에 기록한 시각 (ms)
+    private final Map<Long, Long> lastWrittenMillis = new ConcurrentHashMap<>();
+
+    public void recordAccess(Long userId) {
+        long now = System.currentTimeMillis();
+        Long lastWritten = lastWrittenMillis.get(userId);
+        if (lastWritten != null && now - lastWritten < TimeUnit.MINUTES.toMillis(writeIntervalMinutes)) {
+            return;
+        }
+        lastWrittenMillis.put(userId, now);
+
+        try {
+            userActivityMapper.upsertLastAccess(userId, LocalDateTime.now());
+        } catch (Exception e) {
+            log.warn("사용자 {} 접속 기록 실패: {}", userId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.savit.card;
+
+import com.savit.card.domain.CardApproval;
+import com.savit.card.dto.CardApprovalFetchResult;
+import com.savit.card.mapper.CardApprovalMapper;
+import com.savit.card.mapper.CardSyncWatermarkMapper;
+import com.savit.card.service.CardApprovalWriter;
+import com.savit.card.service.CardTransactionService;
+import com.savit.card.service.DailySpendingRollupService;
+import com.savit.card.service.DashboardCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CardApprovalWriterTest {
+
+    @Mock private CardApprovalMapper cardApprovalMapper;
+    @Mock private CardSyncWatermarkMapper cardSyncWatermarkMapper;
+    @Mock private CardTransactionService cardTransactionService;
+    @Mock private DailySpendingRollupService dailySpendingRollupService;
+    @Mock private DashboardCache dashboardCache;
+
+    @InjectMocks
+    private CardApprovalWriter cardApprovalWriter;
+
+    @Test
+    void 동시_동기화가_먼저_저장한_승인내역은_새_승인내역에서_제외() {
+        List<CardApproval> approvals = List.of(approval("k1", "20250722"), approval("k2", "20250723"));
+        when(cardApprovalMapper.findExistingApprovalKeys(eq(10L), anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of("k1"));
+        when(cardTransactionService.classifyApprovals(1L, approvals)).thenReturn(approvals);
+        when(cardApprovalMapper.insertApprovals(approvals)).thenReturn(1);
+
+        List<CardApproval> saved = cardApprovalWriter.save(1L, CardApprovalFetchResult.builder()
+                .cardId(10L)
+                .approvals(approvals)
+                .syncStartedAt(LocalDateTime.now())
+                .build());
+
+        assertEquals(List.of("k1"), saved.stream().map(CardApproval::getApprovalKey).toList());
+        verify(dailySpendingRollupService).refresh(10L, Set.of("20250722"));
+    }
+
+    private CardApproval approval(String approvalKey, String usedDate) {
+        return CardApproval.builder().approvalKey(approvalKey).resUsedDate(usedDate).build();
+    }
+}
@@ -1,21 +1,32 @@
 package com.savit.card;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.savit.card.domain.Card;
+import com.savit.card.dto.CardDetailResponseDTO;
 import com.savit.card.dto.CardRegisterRequestDTO;
+import com.savit.card.dto.CardUsageAmountDTO;
+import com.savit.card.dto.CodefCardDTO;
 import com.savit.card.mapper.CardMapper;
 import com.savit.card.service.CardService;
-import com.savit.card.service.CodefTokenService;
+import com.savit.card.util.CodefApiClient;
+import com.savit.card.util.CodefResponseParser;
 import com.savit.card.util.CodefUtil;
-import io.codef.api.EasyCodef;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.HashMap;
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -24,14 +35,21 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class CardServiceTest {
 
-    @Mock private CodefTokenService codefTokenService;
+    @Mock private CodefApiClient codefApiClient;
     @Mock private CodefUtil codefUtil;
     @Mock private CardMapper cardMapper;
-    @Mock private EasyCodef codefClient;
+    @Spy private CodefResponseParser codefResponseParser = new CodefResponseParser();
 
     @InjectMocks
     private CardService cardService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(codefResponseParser, "objectMapper",
+                new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false));
+        ReflectionTestUtils.setField(codefResponseParser, "rawMaxChars", 2000);
+    }
+
     @Test
     void registerAccount_정상응답_connectedId_반환() throws Exception {
         CardRegisterRequestDTO req = new CardRegisterRequestDTO();
@@ -43,11 +61,8 @@ class CardServiceTest {
         String connectedId = "mock-connected-id";
         String mockResp = "{\"data\":{\"connectedId\":\"" + connectedId + "\"}}";
 
-        when(codefTokenService.getAccessToken()).thenReturn("token");
-        when(codefUtil.getClientId()).thenReturn("client-id");
         when(codefUtil.encryptRSA(any())).thenReturn("encryptedPw");
-        when(codefUtil.newClient()).thenReturn(codefClient);
-        when(codefClient.createAccount(any(), any())).thenReturn(mockResp);
+        when(codefApiClient.createAccount(any())).thenReturn(mockResp);
 
         String result = cardService.registerAccount(req);
 
@@ -64,11 +79,8 @@ class CardServiceTest {
 
         String mockResp = "{\"data\":{}}";
 
-        when(codefTokenService.getAccessToken()).thenReturn("token");
-        when(codefUtil.getClientId()).thenReturn("client-id");
         when(codefUtil.encryptRSA(any())).thenReturn("enc");
-        when(codefUtil.newClient()).thenReturn(codefClient);
-        when(codefClient.createAccount(any(), any())).thenReturn(mockResp);
+        when(codefApiClient.createAccount(any())).thenReturn(mockResp);
 
         assertThrows(IllegalStateException.class, () -> cardService.registerAccount(req));
     }
@@ -81,30 +93,83 @@ class CardServiceTest {
 
         String mockResp = "{\"data\":[{\"cardName\":\"신한카드\",\"resCardNo\":\"1234\"}]}";
 
-        when(codefTokenService.getAccessToken()).thenReturn("token");
-        when(codefUtil.getClientId()).thenReturn("client-id");
-        when(codefUtil.newClient()).thenReturn(codefClient);
-        when(codefClient.requestProduct(any(), any(), any())).thenReturn(mockResp);
+        when(codefApiClient.requestProduct(any(), any())).thenReturn(mockResp);
 
-        List<Map<String, Object>> result = cardService.fetchCardList(connectedId, organization, birthDate);
+        List<CodefCardDTO> result = cardService.fetchCardList(connectedId, organization, birthDate);
 
         assertFalse(result.isEmpty());
-        assertEquals("신한카드", result.get(0).get("cardName"));
+        assertEquals("1234", result.get(0).getResCardNo());
+        assertEquals("신한카드", result.get(0).getAdditionalFields().get("cardName"));
     }
 
     @Test
     void saveCards_cardMapper_호출확인() {
-        Map<String, Object> data = new HashMap<>();
-        data.put("cardName", "카드");
-        data.put("issuer", "신한");
-        data.put("resCardNo", "1234");
-        data.put("resCardType", "체크");
-        data.put("resSleepYn", "N");
+        CodefCardDTO data = new CodefCardDTO();
+        data.setResCardName("카드");
+        data.setIssuer("신한");
+        data.setResCardNo("1234");
+        data.setResCardType("체크");
+        data.setResSleepYn("N");
 
-        List<Map<String, Object>> list = List.of(data);
+        List<CodefCardDTO> list = List.of(data);
 
         cardService.saveCards(list, "cid", "org", 1L, "encNo", "00");
 
         verify(cardMapper).insertCards(anyList());
     }
+
+    @Test
+    void getCardListByUser_카드목록과_사용액을_이번달_기간으로_한번에_조회() {
+        YearMonth month = YearMonth.now();
+        List<CardDetailResponseDTO> cards = List.of(
+                new CardDetailResponseDTO(Card.builder().id(10L).build(), 0),
+                new CardDetailResponseDTO(Card.builder().id(11L).build(), 25000));
+        when(cardMapper.selectCardsWithUsageByUserId(1L, month.atDay(1), month.atEndOfMonth())).thenReturn(cards);
+
+        List<CardDetailResponseDTO> result = cardService.getCardListByUser(1L);
+
+        assertEquals(List.of(0, 25000), result.stream().map(CardDetailResponseDTO::getUsageAmount).toList());
+        verify(cardMapper, never()).selectCardsByUserId(anyLong());
+        verify(cardMapper, never()).selectUsageAmountsByUserIds(anyCollection(), any(), any());
+    }
+
+    @Test
+    void getCardDetailWithUsage_사용액_기간은_애플리케이션_기준_이번달() {
+        YearMonth month = YearMonth.now();
+        when(cardMapper.selectCardByIdAndUserId(10L, 1L)).thenReturn(Card.builder().id(10L).build());
+        when(cardMapper.selectMonthlyUsageAmount(10L, month.atDay(1), month.atEndOfMonth())).thenReturn(12000);
+
+        assertEquals(12000, cardService.getCardDetailWithUsage(10L, 1L).getUsageAmount());
+    }
+
+    @Test
+    void getMonthlyUsageByUsers_500명씩_나눠서_조회하고_사용자별_카드별로_묶음() {
+        List<Long> userIds = LongStream.rangeClosed(1, 1001).boxed().toList();
+        YearMonth month = YearMonth.now();
+        when(cardMapper.selectUsageAmountsByUserIds(anyCollection(), eq(month.atDay(1)), eq(month.atEndOfMonth())))
+                .thenAnswer(invocation -> {
+                    Collection<Long> chunk = invocation.getArgument(0);
+                    return chunk.contains(1L)
+                            ? List.of(usage(1L, 10L, 3000), usage(1L, 11L, 5000), usage(2L, 20L, 700))
+                            : chunk.contains(1001L) ? List.of(usage(1001L, 30L, 100)) : List.of();
+                });
+
+        Map<Long, Map<Long, Integer>> result = cardService.getMonthlyUsageByUsers(userIds);
+
+        ArgumentCaptor<Collection<Long>> chunks = ArgumentCaptor.forClass(Collection.class);
+        verify(cardMapper, times(3)).selectUsageAmountsByUserIds(chunks.capture(), any(), any());
+        assertEquals(List.of(500, 500, 1), chunks.getAllValues().stream().map(Collection::size).toList());
+        assertEquals(Map.of(
+                1L, Map.of(10L, 3000, 11L, 5000),
+                2L, Map.of(20L, 700),
+                1001L, Map.of(30L, 100)), result);
+    }
+
+    private CardUsageAmountDTO usage(Long userId, Long cardId, int amount) {
+        CardUsageAmountDTO usage = new CardUsageAmountDTO();
+        usage.setUserId(userId);
+        usage.setCardId(cardId);
+        usage.setUsageAmount(amount);
+        return usage;
+    }
 }
@@ -0,0 +1,101 @@
+package com.savit.card;
+
+import com.savit.card.dto.CardSyncReport;
+import com.savit.card.dto.UserCardSyncResult;
+import com.savit.card.service.AsyncCardApprovalService;
+import com.savit.card.service.CardSyncDispatcher;
+import com.savit.card.util.CodefCircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CardSyncDispatcherTest {
+
+    @Mock private AsyncCardApprovalService asyncCardApprovalService;
+    @Mock private CodefCircuitBreaker codefCircuitBreaker;
+
+    @InjectMocks
+    private CardSyncDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dispatcher, "maxInFlight", 2);
+        ReflectionTestUtils.setField(dispatcher, "rejectedRetryMillis", 1L);
+        ReflectionTestUtils.setField(dispatcher, "awaitMinutes", 1L);
+        ReflectionTestUtils.setField(dispatcher, "skippedMaxRequeue", 1);
+        ReflectionTestUtils.setField(dispatcher, "requeueDelayMillis", 1L);
+    }
+
+    @Test
+    void dispatch_결과_집계() {
+        when(asyncCardApprovalService.processUserCardApprovalsAsync(1L))
+                .thenReturn(CompletableFuture.completedFuture(UserCardSyncResult.success(1L, true, 10L)));
+        when(asyncCardApprovalService.processUserCardApprovalsAsync(2L))
+                .thenReturn(CompletableFuture.completedFuture(UserCardSyncResult.success(2L, false, 10L)));
+        when(asyncCardApprovalService.processUserCardApprovalsAsync(3L))
+                .thenReturn(CompletableFuture.completedFuture(UserCardSyncResult.failed(3L, 10L, "error")));
+        when(asyncCardApprovalService.processUserCardApprovalsAsync(4L))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("boom")));
+
+        CardSyncReport report = dispatcher.dispatch(List.of(1L, 2L, 3L, 4L));
+
+        assertEquals(4, report.getTotalUsers());
+        assertEquals(2, report.getSucceededUsers());
+        assertEquals(2, report.getFailedUsers());
+        assertEquals(1, report.getNewTransactionUsers());
+        assertEquals(0, report.getUnfinishedUsers());
+        assertEquals(List.of(3L, 4L), report.getFailedUserIds());
+    }
+
+    @Test
+    void dispatch_큐가득참_거절시_재제출() {
+        when(asyncCardApprovalService.processUserCardApprovalsAsync(1L))
+                .thenThrow(new TaskRejectedException("queue full"))
+                .thenReturn(CompletableFuture.completedFuture(UserCardSyncResult.success(1L, false, 10L)));
+
+        CardSyncReport report = dispatcher.dispatch(List.of(1L));
+
+        assertEquals(1, report.getSucceededUsers());
+        verify(asyncCardApprovalService, times(2)).processUserCardApprovalsAsync(1L);
+    }
+
+    @Test
+    void dispatch_서킷열림_보류사용자_재처리() {
+        when(asyncCardApprovalService.processUserCardApprovalsAsync(1L))
+                .thenReturn(CompletableFuture.completedFuture(UserCardSyncResult.skipped(1L, 10L, "open")))
+                .thenReturn(CompletableFuture.completedFuture(UserCardSyncResult.success(1L, true, 10L)));
+        when(asyncCardApprovalService.processUserCardApprovalsAsync(2L))
+                .thenReturn(CompletableFuture.completedFuture(UserCardSyncResult.success(2L, false, 10L)));
+
+        CardSyncReport report = dispatcher.dispatch(List.of(1L, 2L));
+
+        assertEquals(2, report.getSucceededUsers());
+        assertEquals(0, report.getSkippedUsers());
+        verify(asyncCardApprovalService, times(2)).processUserCardApprovalsAsync(1L);
+        verify(asyncCardApprovalService, times(1)).processUserCardApprovalsAsync(2L);
+    }
+
+    @Test
+    void dispatch_재처리_한도초과시_보류로_집계() {
+        when(asyncCardApprovalService.processUserCardApprovalsAsync(1L))
+                .thenReturn(CompletableFuture.completedFuture(UserCardSyncResult.skipped(1L, 10L, "open")));
+
+        CardSyncReport report = dispatcher.dispatch(List.of(1L));
+
+        assertEquals(1, report.getSkippedUsers());
+        assertEquals(List.of(1L), report.getSkippedUserIds());
+        verify(asyncCardApprovalService, times(2)).processUserCardApprovalsAsync(1L);
+    }
+}
@@ -0,0 +1,122 @@
+package com.savit.card;
+
+import com.savit.card.domain.CardSyncTier;
+import com.savit.card.dto.CardSyncCandidateDTO;
+import com.savit.card.dto.CardSyncPlan;
+import com.savit.card.dto.TransactionHourCountDTO;
+import com.savit.card.mapper.CardSyncPriorityMapper;
+import com.savit.card.service.CardSyncPlanner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CardSyncPlannerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 7, 23, 13, 0);
+
+    @Mock private CardSyncPriorityMapper cardSyncPriorityMapper;
+
+    @InjectMocks
+    private CardSyncPlanner cardSyncPlanner;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cardSyncPlanner, "enabled", true);
+        ReflectionTestUtils.setField(cardSyncPlanner, "dailySyncsPerUser", 4);
+        ReflectionTestUtils.setField(cardSyncPlanner, "hotAccessDays", 3L);
+        ReflectionTestUtils.setField(cardSyncPlanner, "dormantDays", 30L);
+        ReflectionTestUtils.setField(cardSyncPlanner, "hotActiveIntervalMinutes", 60L);
+        ReflectionTestUtils.setField(cardSyncPlanner, "defaultIntervalMinutes", 360L);
+        ReflectionTestUtils.setField(cardSyncPlanner, "coldIntervalMinutes", 1440L);
+        ReflectionTestUtils.setField(cardSyncPlanner, "slackMinutes", 10L);
+        ReflectionTestUtils.setField(cardSyncPlanner, "budgetWarningRate", new BigDecimal("0.8"));
+        ReflectionTestUtils.setField(cardSyncPlanner, "activeHourLookbackDays", 60L);
+        ReflectionTestUtils.setField(cardSyncPlanner, "activeHourMinShare", 0.15);
+        ReflectionTestUtils.setField(cardSyncPlanner, "profileRefreshMinutes", 360L);
+    }
+
+    @Test
+    void 주사용시간대_HOT사용자는_한시간만에_다시_동기화_휴면사용자는_하루한번() {
+        // 사용자 1: 어제 접속, 12시대에 거래가 몰림 -> 13시는 매시간 동기화 시간대
+        // 사용자 2: 60일 전 접속 (휴면), 3시간 전 동기화
+        // 사용자 3: 10일 전 접속 (가끔), 2시간 전 동기화
+        List<CardSyncCandidateDTO> candidates = List.of(
+                candidate(1L, NOW.minusDays(1), NOW.minusHours(1), 1),
+                candidate(2L, NOW.minusDays(60), NOW.minusHours(3), 1),
+                candidate(3L, NOW.minusDays(10), NOW.minusHours(2), 1));
+        when(cardSyncPriorityMapper.findSyncCandidates()).thenReturn(candidates);
+        when(cardSyncPriorityMapper.findBudgetAlertUserIds(eq("202507"), any())).thenReturn(List.of());
+        when(cardSyncPriorityMapper.findTransactionHourCounts(anyString()))
+                .thenReturn(List.of(hourCount(1L, 12, 8), hourCount(1L, 19, 1)));
+
+        CardSyncPlan plan = cardSyncPlanner.plan(NOW);
+
+        assertEquals(List.of(1L), plan.getUserIds());
+        assertEquals(1, plan.getTierCounts().get(CardSyncTier.HOT));
+        assertEquals(1, plan.getTierCounts().get(CardSyncTier.WARM));
+        assertEquals(1, plan.getTierCounts().get(CardSyncTier.COLD));
+    }
+
+    @Test
+    void 하루예산을_넘지않도록_가장_많이_밀린_사용자부터_선정() {
+        // 20명 모두 오늘 이미 3번씩 동기화 -> 남은 예산 20회를 남은 11시간에 나눠 이번 시간은 2명
+        List<CardSyncCandidateDTO> candidates = new ArrayList<>();
+        for (long userId = 1; userId <= 20; userId++) {
+            candidates.add(candidate(userId, NOW.minusDays(10), NOW.minusHours(6), 3));
+        }
+        candidates.set(4, candidate(5L, NOW.minusDays(10), NOW.minusHours(9), 3));
+        candidates.set(9, candidate(10L, null, null, 3));
+        when(cardSyncPriorityMapper.findSyncCandidates()).thenReturn(candidates);
+        when(cardSyncPriorityMapper.findBudgetAlertUserIds(anyString(), any())).thenReturn(List.of());
+        when(cardSyncPriorityMapper.findTransactionHourCounts(anyString())).thenReturn(List.of());
+
+        CardSyncPlan plan = cardSyncPlanner.plan(NOW);
+
+        assertEquals(80, plan.getDailyBudget());
+        assertEquals(60, plan.getUsedToday());
+        assertEquals(20, plan.getDueUsers());
+        assertEquals(List.of(10L, 5L), plan.getUserIds());
+    }
+
+    @Test
+    void 우선순위_계산을_끄면_기존_시각에만_전체_동기화() {
+        ReflectionTestUtils.setField(cardSyncPlanner, "enabled", false);
+        when(cardSyncPriorityMapper.findSyncCandidates())
+                .thenReturn(List.of(candidate(1L, null, null, 0), candidate(2L, null, null, 0)));
+
+        assertEquals(List.of(1L, 2L), cardSyncPlanner.plan(NOW.withHour(12)).getUserIds());
+        assertTrue(cardSyncPlanner.plan(NOW).getUserIds().isEmpty());
+        verify(cardSyncPriorityMapper, never()).findTransactionHourCounts(anyString());
+    }
+
+    private CardSyncCandidateDTO candidate(Long userId, LocalDateTime lastAccessAt, LocalDateTime lastSyncedAt, int syncsToday) {
+        return CardSyncCandidateDTO.builder()
+                .userId(userId)
+                .lastAccessAt(lastAccessAt)
+                .lastSyncedAt(lastSyncedAt)
+                .syncsToday(syncsToday)
+                .build();
+    }
+
+    private TransactionHourCountDTO hourCount(Long userId, int hour, int txCount) {
+        TransactionHourCountDTO count = new TransactionHourCountDTO();
+        count.setUserId(userId);
+        count.setHour(hour);
+        count.setTxCount(txCount);
+        return count;
+    }
+}
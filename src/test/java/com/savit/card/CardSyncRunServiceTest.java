@@ -0,0 +1,90 @@
+package com.savit.card;
+
+import com.savit.card.domain.CardSyncRun;
+import com.savit.card.domain.CardSyncRunUser;
+import com.savit.card.domain.CardSyncStatus;
+import com.savit.card.dto.UserCardSyncResult;
+import com.savit.card.mapper.CardSyncRunMapper;
+import com.savit.card.service.CardSyncRunService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CardSyncRunServiceTest {
+
+    @Mock private CardSyncRunMapper cardSyncRunMapper;
+
+    @InjectMocks
+    private CardSyncRunService cardSyncRunService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cardSyncRunService, "flushSize", 2);
+        ReflectionTestUtils.setField(cardSyncRunService, "flushMillis", 60_000L);
+        ReflectionTestUtils.setField(cardSyncRunService, "chunkSize", 200);
+    }
+
+    @Test
+    void startOrJoinRun_같은runKey_이미있으면_기존실행에_참여() {
+        CardSyncRun existing = CardSyncRun.builder().id(7L).runKey("SCHEDULED-202507230600").build();
+        doThrow(new DuplicateKeyException("dup")).when(cardSyncRunMapper).insertRun(any(CardSyncRun.class));
+        when(cardSyncRunMapper.findRunByKey("SCHEDULED-202507230600")).thenReturn(existing);
+
+        CardSyncRun run = cardSyncRunService.startOrJoinRun("SCHEDULED-202507230600", List.of(1L, 2L));
+
+        assertSame(existing, run);
+        verify(cardSyncRunMapper, never()).insertRunUsers(any(), anyInt(), any());
+        verify(cardSyncRunMapper, never()).insertChunks(any(), any());
+    }
+
+    @Test
+    void startOrJoinRun_사용자수에따라_작업묶음_생성() {
+        ReflectionTestUtils.setField(cardSyncRunService, "chunkSize", 2);
+
+        CardSyncRun run = cardSyncRunService.startOrJoinRun("SCHEDULED-202507230600", List.of(1L, 2L, 3L));
+
+        assertEquals(2, run.getChunkCount());
+        verify(cardSyncRunMapper).insertChunks(any(), eq(List.of(0, 1)));
+    }
+
+    @Test
+    void claimChunk_다른서버가_먼저가져간_묶음은_건너뜀() {
+        ReflectionTestUtils.setField(cardSyncRunService, "leaseSeconds", 300L);
+        when(cardSyncRunMapper.findClaimableChunkNos(10L, "node-a")).thenReturn(List.of(0, 1));
+        when(cardSyncRunMapper.claimChunk(10L, 0, "node-a", 300L)).thenReturn(0);
+        when(cardSyncRunMapper.claimChunk(10L, 1, "node-a", 300L)).thenReturn(1);
+
+        assertEquals(1, cardSyncRunService.claimChunk(10L, "node-a", Set.of()).orElseThrow());
+    }
+
+    @Test
+    void record_flushSize만큼_모이면_일괄반영() {
+        cardSyncRunService.record(10L, 0, UserCardSyncResult.success(1L, 3, 100L));
+        verify(cardSyncRunMapper, never()).upsertRunUserResults(any());
+
+        cardSyncRunService.record(10L, 0, UserCardSyncResult.failed(2L, 50L, "error"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<CardSyncRunUser>> captor = ArgumentCaptor.forClass(List.class);
+        verify(cardSyncRunMapper).upsertRunUserResults(captor.capture());
+        List<CardSyncRunUser> batch = captor.getValue();
+        assertEquals(2, batch.size());
+        assertEquals(CardSyncStatus.SUCCESS, batch.get(0).getStatus());
+        assertEquals(3, batch.get(0).getNewRowCount());
+        assertEquals("error", batch.get(1).getLastError());
+    }
+}
@@ -0,0 +1,112 @@
+package com.savit.card;
+
+import com.savit.card.domain.CardSyncRun;
+import com.savit.card.domain.CardSyncRunStatus;
+import com.savit.card.dto.CardSyncReport;
+import com.savit.card.service.CardSyncDispatcher;
+import com.savit.card.service.CardSyncRunService;
+import com.savit.card.service.CardSyncRunner;
+import com.savit.common.util.ServerNodeId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CardSyncRunnerTest {
+
+    @Mock private CardSyncDispatcher cardSyncDispatcher;
+    @Mock private CardSyncRunService cardSyncRunService;
+    @Mock private ServerNodeId serverNodeId;
+    @Mock private TaskScheduler cardSyncLeaseScheduler;
+    @Mock private ScheduledFuture<Object> leaseRenewal;
+
+    @InjectMocks
+    private CardSyncRunner cardSyncRunner;
+
+    private final List<Set<Integer>> excludedPerClaim = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cardSyncRunner, "chunkWaitMinutes", 1L);
+        ReflectionTestUtils.setField(cardSyncRunner, "chunkPollMillis", 120_000L);
+        ReflectionTestUtils.setField(cardSyncRunner, "inFlightWaitMinutes", 0L);
+        ReflectionTestUtils.setField(cardSyncRunner, "renewMillis", 60_000L);
+        doReturn(leaseRenewal).when(cardSyncLeaseScheduler)
+                .scheduleWithFixedDelay(any(Runnable.class), any(Instant.class), any(Duration.class));
+
+        CardSyncRun run = CardSyncRun.builder().id(1L).status(CardSyncRunStatus.RUNNING).build();
+        when(serverNodeId.get()).thenReturn("node-a");
+        when(cardSyncRunService.startOrJoinRun("run", List.of(7L))).thenReturn(run);
+        when(cardSyncRunService.claimChunk(eq(1L), eq("node-a"), anySet())).thenAnswer(invocation -> {
+            excludedPerClaim.add(new HashSet<>(invocation.getArgument(2)));
+            return excludedPerClaim.size() == 1 ? Optional.of(0) : Optional.empty();
+        });
+        when(cardSyncRunService.findUnfinishedUserIds(1L, 0)).thenReturn(List.of(7L));
+    }
+
+    @Test
+    void 실행중인_작업이_끝나지않은_묶음은_반납후_다시_가져가지않음() {
+        when(cardSyncDispatcher.dispatch(eq(List.of(7L)), any())).thenReturn(unfinishedReport(new CompletableFuture<>()));
+
+        cardSyncRunner.run("run", List.of(7L));
+
+        verify(cardSyncRunService).releaseChunk(1L, 0, "node-a");
+        assertEquals(List.of(Set.of(), Set.of(0)), excludedPerClaim);
+    }
+
+    @Test
+    void 묶음을_처리하는_동안만_전용_스케줄러에서_임대를_연장() {
+        when(cardSyncDispatcher.dispatch(eq(List.of(7L)), any()))
+                .thenReturn(unfinishedReport(CompletableFuture.completedFuture(null)));
+
+        cardSyncRunner.run("run", List.of(7L));
+
+        ArgumentCaptor<Runnable> renewal = ArgumentCaptor.forClass(Runnable.class);
+        verify(cardSyncLeaseScheduler).scheduleWithFixedDelay(renewal.capture(), any(Instant.class), eq(Duration.ofMinutes(1)));
+        verify(leaseRenewal).cancel(false);
+
+        renewal.getValue().run();
+        verify(cardSyncRunService).renewChunkLease(1L, 0, "node-a");
+    }
+
+    @Test
+    void 실행중인_작업이_끝난_묶음은_반납후_다시_가져갈수있음() {
+        when(cardSyncDispatcher.dispatch(eq(List.of(7L)), any()))
+                .thenReturn(unfinishedReport(CompletableFuture.completedFuture(null)));
+
+        cardSyncRunner.run("run", List.of(7L));
+
+        verify(cardSyncRunService).releaseChunk(1L, 0, "node-a");
+        assertEquals(List.of(Set.of(), Set.of()), excludedPerClaim);
+    }
+
+    private CardSyncReport unfinishedReport(CompletableFuture<Void> inFlight) {
+        return CardSyncReport.builder()
+                .totalUsers(1)
+                .unfinishedUsers(1)
+                .failedUserIds(List.of())
+                .skippedUserIds(List.of())
+                .inFlight(inFlight)
+                .build();
+    }
+}
@@ -0,0 +1,123 @@
+package com.savit.card;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.savit.card.service.CodefTokenService;
+import com.savit.card.util.CodefApiClient;
+import com.savit.card.util.CodefCircuitBreaker;
+import com.savit.card.util.CodefConcurrencyLimiter;
+import com.savit.card.util.CodefRateLimiter;
+import com.savit.card.util.CodefResponseParser;
+import com.savit.card.util.CodefUtil;
+import io.codef.api.EasyCodef;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CodefApiClientTest {
+
+    @Mock private CodefUtil codefUtil;
+    @Mock private CodefTokenService codefTokenService;
+    @Mock private CodefRateLimiter codefRateLimiter;
+    @Mock private CodefConcurrencyLimiter codefConcurrencyLimiter;
+    @Mock private CodefCircuitBreaker codefCircuitBreaker;
+    @Spy private CodefResponseParser codefResponseParser = new CodefResponseParser();
+    @Mock private EasyCodef client;
+
+    @InjectMocks
+    private CodefApiClient codefApiClient;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(codefResponseParser, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(codefResponseParser, "rawMaxChars", 2000);
+        ReflectionTestUtils.setField(codefApiClient, "client", client);
+
+        when(codefCircuitBreaker.tryAcquirePermission()).thenReturn(true);
+        when(codefTokenService.getAccessToken()).thenReturn("token");
+        lenient().when(codefUtil.getClientId()).thenReturn("client-id");
+    }
+
+    @Test
+    void 오류코드_응답은_예외가_없어도_실패로_반영() throws Exception {
+        String resp = "{\"result\":{\"code\":\"CF-09999\",\"message\":\"서버 오류\"},\"data\":{}}";
+        when(client.requestProduct(eq("/v1/test"), any(), any())).thenReturn(resp);
+
+        assertEquals(resp, codefApiClient.requestProduct("/v1/test", new HashMap<>()));
+
+        verify(codefCircuitBreaker).onResult(eq(false), anyLong());
+        verify(codefConcurrencyLimiter).onResult(eq(false), anyLong());
+        verify(codefConcurrencyLimiter).release();
+    }
+
+    @Test
+    void 성공과_기관_업무오류는_정상_응답으로_반영() throws Exception {
+        when(client.requestProduct(any(), any(), any())).thenReturn(
+                "{\"result\":{\"code\":\"CF-00000\"},\"data\":[]}",
+                "{\"result\":{\"code\":\"CF-12100\"},\"data\":{}}");
+
+        codefApiClient.requestProduct("/v1/test", new HashMap<>());
+        codefApiClient.requestProduct("/v1/test", new HashMap<>());
+
+        verify(codefCircuitBreaker, times(2)).onResult(eq(true), anyLong());
+        verify(codefCircuitBreaker, never()).onResult(eq(false), anyLong());
+    }
+
+    @Test
+    void JSON이_아닌_응답은_실패로_반영() throws Exception {
+        when(client.createAccount(any(), any())).thenReturn("<html>502</html>");
+
+        codefApiClient.createAccount(new HashMap<>());
+
+        verify(codefCircuitBreaker).onResult(eq(false), anyLong());
+    }
+
+    @Test
+    void 토큰_거절시_무효화하고_새_토큰으로_한번만_재시도() throws Exception {
+        when(codefTokenService.getAccessToken()).thenReturn("old-token", "new-token");
+        String rejected = "{\"result\":{\"code\":\"CF-00401\"},\"data\":{}}";
+        String ok = "{\"result\":{\"code\":\"CF-00000\"},\"data\":{}}";
+        when(client.requestProduct(any(), any(), any())).thenReturn(rejected, ok);
+
+        assertEquals(ok, codefApiClient.requestProduct("/v1/test", new HashMap<>()));
+
+        verify(codefTokenService).invalidate("old-token");
+        verify(client, times(2)).requestProduct(any(), any(), any());
+        verify(codefConcurrencyLimiter, times(1)).release();
+    }
+
+    @Test
+    void 재시도도_토큰_거절이면_그대로_반환() throws Exception {
+        String rejected = "{\"result\":{\"code\":\"CF-00401\"},\"data\":{}}";
+        when(client.requestProduct(any(), any(), any())).thenReturn(rejected);
+
+        assertEquals(rejected, codefApiClient.requestProduct("/v1/test", new HashMap<>()));
+
+        verify(client, times(2)).requestProduct(any(), any(), any());
+        verify(codefTokenService, times(1)).invalidate("token");
+    }
+
+    @Test
+    void 토큰_거절은_서킷과_한도에_실패로_반영하지않음() throws Exception {
+        String rejected = "{\"result\":{\"code\":\"CF-00401\"},\"data\":{}}";
+        String ok = "{\"result\":{\"code\":\"CF-00000\"},\"data\":{}}";
+        when(client.requestProduct(any(), any(), any())).thenReturn(rejected, ok);
+
+        codefApiClient.requestProduct("/v1/test", new HashMap<>());
+
+        verify(codefCircuitBreaker, times(2)).onResult(eq(true), anyLong());
+        verify(codefCircuitBreaker, never()).onResult(eq(false), anyLong());
+        verify(codefConcurrencyLimiter, never()).onResult(eq(false), anyLong());
+    }
+}
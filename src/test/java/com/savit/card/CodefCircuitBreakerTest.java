@@ -0,0 +1,51 @@
+package com.savit.card;
+
+import com.savit.card.util.CodefCircuitBreaker;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodefCircuitBreakerTest {
+
+    @Test
+    void 실패율_기준이상이면_열림() {
+        CodefCircuitBreaker breaker = new CodefCircuitBreaker(4, 4, 50, 100, 10_000, 60_000, 1);
+
+        breaker.onResult(true, 10);
+        breaker.onResult(true, 10);
+        breaker.onResult(false, 10);
+        assertEquals(CodefCircuitBreaker.State.CLOSED, breaker.getState());
+
+        breaker.onResult(false, 10);
+
+        assertEquals(CodefCircuitBreaker.State.OPEN, breaker.getState());
+        assertTrue(breaker.isOpen());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void 느린호출_비율_기준이상이면_열림() {
+        CodefCircuitBreaker breaker = new CodefCircuitBreaker(2, 2, 100, 50, 1_000, 60_000, 1);
+
+        breaker.onResult(true, 10);
+        breaker.onResult(true, 5_000);
+
+        assertEquals(CodefCircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void 대기시간후_시험호출_성공하면_닫힘() {
+        CodefCircuitBreaker breaker = new CodefCircuitBreaker(1, 1, 50, 100, 10_000, 0, 1);
+        breaker.onResult(false, 10);
+        assertEquals(CodefCircuitBreaker.State.OPEN, breaker.getState());
+
+        assertTrue(breaker.tryAcquirePermission());
+        assertEquals(CodefCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        // 시험 호출 수만큼만 허가
+        assertFalse(breaker.tryAcquirePermission());
+
+        breaker.onResult(true, 10);
+
+        assertEquals(CodefCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+}
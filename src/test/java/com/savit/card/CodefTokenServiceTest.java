@@ -12,7 +12,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -68,4 +75,68 @@ class CodefTokenServiceTest {
         assertEquals("CODEF 토큰 발급 실패 (빈 토큰)", e.getCause().getMessage());
     }
 
+    @Test
+    void getAccessToken_캐시된토큰은_DB조회없이_재사용() {
+        CodefToken token = CodefToken.builder()
+                .accessToken("valid-token")
+                .expiresAt(LocalDateTime.now().plusDays(3))
+                .build();
+        when(tokenRepository.findValidToken()).thenReturn(Optional.of(token));
+
+        tokenService.getAccessToken();
+        String result = tokenService.getAccessToken();
+
+        assertEquals("valid-token", result);
+        verify(tokenRepository, times(1)).findValidToken();
+    }
+
+    @Test
+    void invalidate_거절된토큰은_DB에_남아있어도_재사용하지않고_새로발급() throws Exception {
+        CodefToken token = CodefToken.builder()
+                .accessToken("rejected-token")
+                .expiresAt(LocalDateTime.now().plusDays(3))
+                .build();
+        when(tokenRepository.findValidToken()).thenReturn(Optional.of(token));
+        when(codefUtil.newClient()).thenReturn(codefClient);
+        when(codefClient.requestToken(any())).thenReturn("new-token");
+
+        assertEquals("rejected-token", tokenService.getAccessToken());
+        tokenService.invalidate("rejected-token");
+
+        assertEquals("new-token", tokenService.getAccessToken());
+        verify(tokenRepository).save(any(CodefToken.class));
+    }
+
+    @Test
+    void getAccessToken_동시요청시_한번만_발급() throws Exception {
+        CountDownLatch issuing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(tokenRepository.findValidToken()).thenReturn(Optional.empty());
+        when(codefUtil.newClient()).thenReturn(codefClient);
+        when(codefClient.requestToken(any())).thenAnswer(invocation -> {
+            issuing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "new-token";
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<String> first = executor.submit(tokenService::getAccessToken);
+            assertTrue(issuing.await(5, TimeUnit.SECONDS));
+
+            List<Future<String>> others = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                others.add(executor.submit(tokenService::getAccessToken));
+            }
+            release.countDown();
+
+            assertEquals("new-token", first.get(5, TimeUnit.SECONDS));
+            for (Future<String> other : others) {
+                assertEquals("new-token", other.get(5, TimeUnit.SECONDS));
+            }
+            verify(codefClient, times(1)).requestToken(any());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
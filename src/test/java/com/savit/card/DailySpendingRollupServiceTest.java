@@ -0,0 +1,75 @@
+package com.savit.card;
+
+import com.savit.card.domain.CardTransactionVO;
+import com.savit.card.dto.MonthlyUsageDTO;
+import com.savit.card.mapper.DailySpendingRollupMapper;
+import com.savit.card.service.DailySpendingRollupService;
+import com.savit.card.service.MonthlyUsageSnapshotService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DailySpendingRollupServiceTest {
+
+    @Mock private DailySpendingRollupMapper dailySpendingRollupMapper;
+    @Mock private MonthlyUsageSnapshotService monthlyUsageSnapshotService;
+
+    @InjectMocks
+    private DailySpendingRollupService dailySpendingRollupService;
+
+    @Test
+    void 바뀐_거래의_카드별_일자만_한번씩_다시_계산() {
+        List<CardTransactionVO> transactions = List.of(
+                transaction(1L, "20250722"),
+                transaction(1L, "20250722"),
+                transaction(1L, "20250723"),
+                transaction(2L, "20250723"),
+                transaction(2L, null),
+                transaction(null, "20250723"));
+
+        dailySpendingRollupService.refresh(transactions, CardTransactionVO::getCardId, CardTransactionVO::getResUsedDate);
+
+        verify(dailySpendingRollupMapper).deleteCardDays(1L, Set.of("20250722", "20250723"));
+        verify(dailySpendingRollupMapper).insertCardDays(1L, Set.of("20250722", "20250723"));
+        verify(dailySpendingRollupMapper).deleteCardDays(2L, Set.of("20250723"));
+        verify(dailySpendingRollupMapper).insertCardDays(2L, Set.of("20250723"));
+        verifyNoMoreInteractions(dailySpendingRollupMapper);
+        verify(monthlyUsageSnapshotService).invalidate(1L, Set.of(YearMonth.of(2025, 7)));
+        verify(monthlyUsageSnapshotService).invalidate(2L, Set.of(YearMonth.of(2025, 7)));
+    }
+
+    @Test
+    void 일자가_없으면_집계를_건드리지않고_월합계는_전월1일부터_해당월말일까지_한번에_조회() {
+        dailySpendingRollupService.refresh(1L, Arrays.asList(null, "2025-07"));
+        verify(dailySpendingRollupMapper, never()).deleteCardDays(anyLong(), anyCollection());
+        verifyNoInteractions(monthlyUsageSnapshotService);
+
+        when(dailySpendingRollupMapper.sumMonthlyNetAmountsByUser(
+                1L, LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)))
+                .thenReturn(null);
+        MonthlyUsageDTO usage = dailySpendingRollupService.getMonthlyUsage(1L, YearMonth.of(2024, 3));
+        assertEquals(BigDecimal.ZERO, usage.getThisMonthUsage());
+        assertEquals(BigDecimal.ZERO, usage.getLastMonthUsage());
+    }
+
+    private CardTransactionVO transaction(Long cardId, String usedDate) {
+        CardTransactionVO transaction = new CardTransactionVO();
+        transaction.setCardId(cardId);
+        transaction.setResUsedDate(usedDate);
+        return transaction;
+    }
+}
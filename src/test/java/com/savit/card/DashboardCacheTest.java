@@ -0,0 +1,97 @@
+package com.savit.card;
+
+import com.savit.card.dto.DashboardDTO;
+import com.savit.card.service.DashboardCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DashboardCacheTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 7, 23);
+
+    private DashboardCache dashboardCache;
+
+    @BeforeEach
+    void setUp() {
+        dashboardCache = new DashboardCache();
+        ReflectionTestUtils.setField(dashboardCache, "maxUsers", 2);
+        ReflectionTestUtils.setField(dashboardCache, "ttlMinutes", 30L);
+        ReflectionTestUtils.setField(dashboardCache, "waitSeconds", 5L);
+    }
+
+    @Test
+    void 동시_미스는_한번만_계산하고_결과를_함께받음() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<DashboardDTO> first = executor.submit(() -> dashboardCache.get(1L, TODAY, () -> {
+                loads.incrementAndGet();
+                started.countDown();
+                await(release);
+                return dashboard(1000);
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<DashboardDTO> second = executor.submit(() -> dashboardCache.get(1L, TODAY, () -> {
+                loads.incrementAndGet();
+                return dashboard(-1);
+            }));
+            Thread.sleep(100);
+            release.countDown();
+
+            assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+            // 다음 날에는 다시 계산
+            assertEquals(new BigDecimal(2000), dashboardCache.get(1L, TODAY.plusDays(1), () -> dashboard(2000)).getThisMonthUsage());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 계산중_무효화되면_그_결과는_캐시에_남지않고_오래된_사용자부터_밀려남() {
+        DashboardDTO stale = dashboardCache.get(1L, TODAY, () -> {
+            dashboardCache.invalidate(1L);
+            return dashboard(1000);
+        });
+        assertEquals(new BigDecimal(1000), stale.getThisMonthUsage());
+        assertEquals(new BigDecimal(3000), dashboardCache.get(1L, TODAY, () -> dashboard(3000)).getThisMonthUsage());
+
+        dashboardCache.get(2L, TODAY, () -> dashboard(0));
+        dashboardCache.get(3L, TODAY, () -> dashboard(0));
+        assertEquals(2, dashboardCache.size());
+        assertEquals(new BigDecimal(4000), dashboardCache.get(1L, TODAY, () -> dashboard(4000)).getThisMonthUsage());
+    }
+
+    @Test
+    void 계산중_Error가_나도_항목을_지워서_다음_요청은_다시_계산() {
+        assertThrows(StackOverflowError.class, () -> dashboardCache.get(1L, TODAY, () -> {
+            throw new StackOverflowError();
+        }));
+
+        assertEquals(0, dashboardCache.size());
+        assertEquals(new BigDecimal("2000"), dashboardCache.get(1L, TODAY, () -> dashboard(2000)).getThisMonthUsage());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private DashboardDTO dashboard(int thisMonthUsage) {
+        return DashboardDTO.builder().thisMonthUsage(new BigDecimal(thisMonthUsage)).build();
+    }
+}
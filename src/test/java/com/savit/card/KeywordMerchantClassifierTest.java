@@ -0,0 +1,37 @@
+package com.savit.card;
+
+import com.savit.card.service.KeywordMerchantClassifier;
+import com.savit.card.service.MerchantClassifier;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeywordMerchantClassifierTest {
+
+    private final MerchantClassifier classifier = new KeywordMerchantClassifier();
+
+    @Test
+    void 상호명_키워드로_분류() {
+        assertEquals("카페", classifier.classify("스타벅스 강남점", null));
+        assertEquals("정기구독", classifier.classify("NETFLIX.COM", null));
+    }
+
+    @Test
+    void 여러_키워드가_걸리면_가장_긴_키워드_우선() {
+        // "쿠팡"(쇼핑)보다 "쿠팡이츠"(배달)가 더 길다
+        assertEquals("배달", classifier.classify("쿠팡이츠_서울", null));
+        // "마트"(편의점/마트)와 "롯데마트" 중 긴 쪽, "롯데시네마"(영화)는 부분만 걸림
+        assertEquals("편의점/마트", classifier.classify("롯데마트 제주점", null));
+    }
+
+    @Test
+    void 상호명으로_분류되지_않으면_업종명_사용() {
+        assertEquals("대중교통", classifier.classify("서울교통공사", "지하철"));
+    }
+
+    @Test
+    void 분류_불가시_기타() {
+        assertEquals(MerchantClassifier.DEFAULT_CATEGORY, classifier.classify("알수없는가게", "기타업종"));
+        assertEquals(MerchantClassifier.DEFAULT_CATEGORY, classifier.classify(null, null));
+    }
+}
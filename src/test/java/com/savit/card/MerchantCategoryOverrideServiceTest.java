@@ -0,0 +1,108 @@
+package com.savit.card;
+
+import com.savit.budget.service.CategoryCache;
+import com.savit.card.domain.CardTransactionVO;
+import com.savit.card.domain.MerchantCategoryOverride;
+import com.savit.card.mapper.CardTransactionMapper;
+import com.savit.card.mapper.MerchantCategoryOverrideMapper;
+import com.savit.card.service.DailySpendingRollupService;
+import com.savit.card.service.DashboardCache;
+import com.savit.card.service.MerchantCategoryOverrideService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MerchantCategoryOverrideServiceTest {
+
+    @Mock private MerchantCategoryOverrideMapper overrideMapper;
+    @Mock private CardTransactionMapper cardTransactionMapper;
+    @Mock private CategoryCache categoryCache;
+    @Mock private DailySpendingRollupService dailySpendingRollupService;
+    @Mock private DashboardCache dashboardCache;
+
+    @InjectMocks
+    private MerchantCategoryOverrideService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "globalMinUsers", 2);
+        ReflectionTestUtils.setField(service, "maxCachedUsers", 100);
+    }
+
+    @Test
+    void 사용자_보정값이_공통_보정값보다_우선() {
+        when(overrideMapper.findByUserId(0L)).thenReturn(List.of(
+                MerchantCategoryOverride.builder().userId(0L).merchantKey("동네빵집").categoryId(2L).build()));
+        when(overrideMapper.findByUserId(1L)).thenReturn(List.of(
+                MerchantCategoryOverride.builder().userId(1L).merchantKey("동네빵집").categoryId(5L).build()));
+        when(overrideMapper.findByUserId(2L)).thenReturn(List.of());
+        service.init();
+
+        assertEquals(5L, service.findCategoryId(1L, "동네 빵집"));
+        assertEquals(2L, service.findCategoryId(2L, "동네 빵집"));
+        assertNull(service.findCategoryId(2L, "처음보는가게"));
+    }
+
+    @Test
+    void 사용자_보정값_캐시를_비우면_다른_서버에서_바꾼_값을_다시_읽음() {
+        when(overrideMapper.findByUserId(1L)).thenReturn(
+                List.of(MerchantCategoryOverride.builder().userId(1L).merchantKey("동네빵집").categoryId(5L).build()),
+                List.of(MerchantCategoryOverride.builder().userId(1L).merchantKey("동네빵집").categoryId(7L).build()));
+
+        assertEquals(5L, service.findCategoryId(1L, "동네빵집"));
+        assertEquals(5L, service.findCategoryId(1L, "동네빵집"));
+        service.evictUserOverrides();
+
+        assertEquals(7L, service.findCategoryId(1L, "동네빵집"));
+        verify(overrideMapper, times(2)).findByUserId(1L);
+    }
+
+    @Test
+    void 같은_보정을_한_사용자가_기준_이상이면_공통으로_승격() {
+        when(overrideMapper.findByUserId(anyLong())).thenReturn(List.of());
+        when(overrideMapper.countUsersByMerchantAndCategory("동네빵집", 2L)).thenReturn(2);
+        service.init();
+
+        service.learn(3L, "동네빵집", 2L);
+
+        verify(overrideMapper, times(2)).upsertOverride(any());
+        assertEquals(2L, service.findCategoryId(4L, "동네빵집"));
+    }
+
+    @Test
+    void 재지정은_정규화한_가맹점명이_같은_미분류_거래만_대상() {
+        when(cardTransactionMapper.findUncategorizedTransactionsByUser(1L, null)).thenReturn(List.of(
+                transaction(10L, "동네 빵집"), transaction(11L, "동네빵집!"), transaction(12L, "옆집빵집")));
+        when(cardTransactionMapper.updateCategories(anyList())).thenAnswer(invocation -> {
+            List<CardTransactionVO> updated = invocation.getArgument(0);
+            assertEquals(List.of(10L, 11L), updated.stream().map(CardTransactionVO::getId).toList());
+            assertTrue(updated.stream().allMatch(tx -> tx.getCategoryId() == 2L));
+            return updated.size();
+        });
+
+        service.retagUncategorizedAsync(1L, "동네빵집", 2L);
+
+        verify(cardTransactionMapper).updateCategories(anyList());
+        verify(dashboardCache).invalidate(1L);
+    }
+
+    private CardTransactionVO transaction(Long id, String storeName) {
+        CardTransactionVO transaction = new CardTransactionVO();
+        transaction.setId(id);
+        transaction.setCardId(1L);
+        transaction.setResUsedDate("20250723");
+        transaction.setResMemberStoreName(storeName);
+        return transaction;
+    }
+}
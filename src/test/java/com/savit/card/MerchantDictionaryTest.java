@@ -0,0 +1,86 @@
+package com.savit.card;
+
+import com.savit.budget.domain.CategoryVO;
+import com.savit.budget.service.CategoryCache;
+import com.savit.card.service.MerchantDictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MerchantDictionaryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final CategoryCache categoryCache = mock(CategoryCache.class);
+
+    @BeforeEach
+    void setUp() {
+        when(categoryCache.findByName(anyString())).thenAnswer(invocation ->
+                "오타".equals(invocation.getArgument(0)) ? null : new CategoryVO());
+    }
+
+    @Test
+    void 파일이_바뀌면_사전_교체() throws Exception {
+        Path file = tempDir.resolve("merchant-dictionary.tsv");
+        Files.writeString(file, "#version=1\n스타벅스 강남점\t카페\n", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(1_000L));
+
+        MerchantDictionary dictionary = new MerchantDictionary(categoryCache);
+        ReflectionTestUtils.setField(dictionary, "dictionaryPath", file.toString());
+        dictionary.init();
+
+        assertEquals("1", dictionary.getVersion());
+        assertEquals("카페", dictionary.lookup("스타벅스강남점"));
+
+        Files.writeString(file, "#version=2\n쿠팡이츠\t배달\n", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(2_000L));
+        dictionary.reloadIfChanged();
+
+        assertEquals("2", dictionary.getVersion());
+        assertNull(dictionary.lookup("스타벅스강남점"));
+        assertEquals("배달", dictionary.lookup("쿠팡이츠"));
+    }
+
+    @Test
+    void 버전_헤더가_없으면_기존_사전_유지() throws Exception {
+        Path file = tempDir.resolve("merchant-dictionary.tsv");
+        Files.writeString(file, "#version=1\n쿠팡이츠\t배달\n", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(1_000L));
+
+        MerchantDictionary dictionary = new MerchantDictionary(categoryCache);
+        ReflectionTestUtils.setField(dictionary, "dictionaryPath", file.toString());
+        dictionary.init();
+
+        Files.writeString(file, "쿠팡이츠\t쇼핑\n", StandardCharsets.UTF_8);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(2_000L));
+        dictionary.reloadIfChanged();
+
+        assertEquals("1", dictionary.getVersion());
+        assertEquals("배달", dictionary.lookup("쿠팡이츠"));
+    }
+
+    @Test
+    void 없는_카테고리_항목은_건너뛰고_나머지는_사용() throws Exception {
+        Path file = tempDir.resolve("merchant-dictionary.tsv");
+        Files.writeString(file, "#version=1\n스타벅스\t카페\n쿠팡이츠\t오타\n", StandardCharsets.UTF_8);
+
+        MerchantDictionary dictionary = new MerchantDictionary(categoryCache);
+        ReflectionTestUtils.setField(dictionary, "dictionaryPath", file.toString());
+        dictionary.init();
+
+        assertEquals(1, dictionary.size());
+        assertEquals("카페", dictionary.lookup("스타벅스"));
+        assertNull(dictionary.lookup("쿠팡이츠"));
+    }
+}
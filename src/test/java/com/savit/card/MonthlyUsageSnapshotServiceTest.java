@@ -0,0 +1,98 @@
+package com.savit.card;
+
+import com.savit.card.domain.MonthlyUsageSnapshot;
+import com.savit.card.mapper.DailySpendingRollupMapper;
+import com.savit.card.mapper.MonthlyUsageSnapshotMapper;
+import com.savit.card.service.MonthlyUsageSnapshotService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MonthlyUsageSnapshotServiceTest {
+
+    @Mock private MonthlyUsageSnapshotMapper monthlyUsageSnapshotMapper;
+    @Mock private DailySpendingRollupMapper dailySpendingRollupMapper;
+
+    @InjectMocks
+    private MonthlyUsageSnapshotService monthlyUsageSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(monthlyUsageSnapshotService, "settlementLagDays", 7L);
+        ReflectionTestUtils.setField(monthlyUsageSnapshotService, "recentCacheTtlMinutes", 10L);
+    }
+
+    @Test
+    void 월이_끝나고_정산유예가_지나야_마감() {
+        assertEquals(YearMonth.of(2025, 6), monthlyUsageSnapshotService.getLatestClosedMonth(LocalDate.of(2025, 8, 7)));
+        assertEquals(YearMonth.of(2025, 7), monthlyUsageSnapshotService.getLatestClosedMonth(LocalDate.of(2025, 8, 8)));
+        assertFalse(monthlyUsageSnapshotService.isClosed(YearMonth.of(2025, 7), LocalDate.of(2025, 8, 7)));
+    }
+
+    @Test
+    void 없는_스냅샷만_집계로_계산해서_저장하고_이후에는_DB없이_캐시에서_조회() {
+        YearMonth from = YearMonth.of(2025, 5);
+        YearMonth to = YearMonth.of(2025, 7);
+        when(monthlyUsageSnapshotMapper.findByUserAndMonthRange(1L, "202505", "202507"))
+                .thenReturn(List.of(snapshot("202505", "15000.00")));
+        when(dailySpendingRollupMapper.sumNetAmountByUserGroupByMonth(1L, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 7, 31)))
+                .thenReturn(List.of(snapshot("202507", "32000.00")));
+
+        Map<YearMonth, BigDecimal> first = monthlyUsageSnapshotService.getClosedMonthUsages(1L, from, to);
+        Map<YearMonth, BigDecimal> second = monthlyUsageSnapshotService.getClosedMonthUsages(1L, from, to);
+
+        assertEquals(List.of(from, YearMonth.of(2025, 6), to), List.copyOf(first.keySet()));
+        assertEquals(new BigDecimal("32000.00"), first.get(to));
+        assertEquals(first, second);
+        verify(monthlyUsageSnapshotMapper, times(1)).findByUserAndMonthRange(anyLong(), anyString(), anyString());
+        verify(monthlyUsageSnapshotMapper).insertSnapshots(argThat(snapshots -> snapshots.size() == 2));
+    }
+
+    @Test
+    void 마감된_월에_거래가_다시_쓰이면_스냅샷을_지우고_캐시를_비워_다시_계산() {
+        YearMonth closed = YearMonth.now().minusMonths(2);
+        String closedMonth = closed.format(DateTimeFormatter.ofPattern("yyyyMM"));
+        when(monthlyUsageSnapshotMapper.findByUserAndMonthRange(1L, closedMonth, closedMonth))
+                .thenReturn(List.of(snapshot(closedMonth, "15000.00")), List.of());
+        when(dailySpendingRollupMapper.sumNetAmountByUserGroupByMonth(1L, closed.atDay(1), closed.atEndOfMonth()))
+                .thenReturn(List.of(snapshot(closedMonth, "12000.00")));
+        when(monthlyUsageSnapshotMapper.findUserIdByCardId(3L)).thenReturn(1L);
+
+        assertEquals(new BigDecimal("15000.00"), monthlyUsageSnapshotService.getClosedMonthUsage(1L, closed));
+        monthlyUsageSnapshotService.invalidate(3L, List.of(closed, YearMonth.now()));
+
+        verify(monthlyUsageSnapshotMapper).deleteByUserAndMonths(1L, List.of(closedMonth));
+        assertEquals(new BigDecimal("12000.00"), monthlyUsageSnapshotService.getClosedMonthUsage(1L, closed));
+    }
+
+    @Test
+    void 마감전_월만_다시_쓰이면_스냅샷을_건드리지않음() {
+        monthlyUsageSnapshotService.invalidate(3L, List.of(YearMonth.now()));
+
+        verifyNoInteractions(monthlyUsageSnapshotMapper);
+    }
+
+    private MonthlyUsageSnapshot snapshot(String month, String amount) {
+        return MonthlyUsageSnapshot.builder()
+                .userId(1L)
+                .month(month)
+                .netAmount(new BigDecimal(amount))
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.savit.card;
+
+import com.savit.card.dto.OnDemandSyncResult;
+import com.savit.card.dto.OnDemandSyncSource;
+import com.savit.card.util.SyncCoalescer;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyncCoalescerTest {
+
+    @Test
+    void 동시요청은_한번만_동기화하고_결과를_함께받음() throws Exception {
+        SyncCoalescer<String, Integer> coalescer = new SyncCoalescer<>(0, 5_000);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<OnDemandSyncResult<Integer>> first = executor.submit(() -> coalescer.run("1:INCREMENTAL", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                release.await();
+                return 3;
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            CompletableFuture<OnDemandSyncResult<Integer>> second = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return coalescer.run("1:INCREMENTAL", () -> {
+                        calls.incrementAndGet();
+                        return -1;
+                    });
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            });
+            Thread.sleep(100);
+            release.countDown();
+
+            assertEquals(OnDemandSyncSource.SYNCED, first.get(5, TimeUnit.SECONDS).getSource());
+            OnDemandSyncResult<Integer> joined = second.get(5, TimeUnit.SECONDS);
+            assertEquals(OnDemandSyncSource.COALESCED, joined.getSource());
+            assertEquals(3, joined.getData());
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void 방금끝난_결과는_재사용하고_실패는_재사용하지않음() throws Exception {
+        SyncCoalescer<String, Integer> coalescer = new SyncCoalescer<>(60_000, 5_000);
+
+        assertThrows(IllegalStateException.class, () -> coalescer.run("1:INCREMENTAL", () -> {
+            throw new IllegalStateException("Codef 오류");
+        }));
+
+        assertEquals(OnDemandSyncSource.SYNCED, coalescer.run("1:INCREMENTAL", () -> 2).getSource());
+        OnDemandSyncResult<Integer> cached = coalescer.run("1:INCREMENTAL", () -> -1);
+        assertEquals(OnDemandSyncSource.CACHED, cached.getSource());
+        assertEquals(2, cached.getData());
+
+        // 다른 키는 따로 동기화
+        assertEquals(OnDemandSyncSource.SYNCED, coalescer.run("1:FULL", () -> 5).getSource());
+    }
+}
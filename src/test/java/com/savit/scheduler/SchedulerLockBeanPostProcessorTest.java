@@ -0,0 +1,128 @@
+package com.savit.scheduler;
+
+import com.savit.scheduler.lock.SchedulerLock;
+import com.savit.scheduler.lock.SchedulerLockBeanPostProcessor;
+import com.savit.scheduler.lock.SchedulerLockService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SchedulerLockBeanPostProcessorTest {
+
+    private AnnotationConfigApplicationContext context;
+    private SchedulerLockService lockService;
+
+    static class TestJob {
+        private final AtomicInteger runCount = new AtomicInteger();
+
+        @SchedulerLock(name = "test-job", lockAtMostFor = "PT1M", lockAtLeastFor = "PT5S")
+        public void run() {
+            runCount.incrementAndGet();
+        }
+
+        public int getRunCount() {
+            return runCount.get();
+        }
+    }
+
+    static class AsyncTestJob {
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        @Async("batchJobExecutor")
+        @SchedulerLock(name = "async-test-job", lockAtMostFor = "PT1M", lockAtLeastFor = "PT0S")
+        public void run() {
+            done.countDown();
+        }
+
+        public boolean awaitDone() throws InterruptedException {
+            return done.await(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Configuration
+    @EnableAsync
+    static class AsyncConfig {
+        @Bean
+        ThreadPoolTaskExecutor batchJobExecutor() {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setThreadNamePrefix("BatchJob-");
+            return executor;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        lockService = mock(SchedulerLockService.class);
+        context = new AnnotationConfigApplicationContext();
+        context.registerBean(SchedulerLockBeanPostProcessor.class);
+        context.registerBean(SchedulerLockService.class, () -> lockService);
+        context.registerBean(TestJob.class);
+        context.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void 잠금획득시_실행후_해제() {
+        when(lockService.tryLock("test-job", Duration.ofMinutes(1))).thenReturn(true);
+        TestJob job = context.getBean(TestJob.class);
+
+        job.run();
+
+        assertEquals(1, job.getRunCount());
+        verify(lockService).unlock("test-job", Duration.ofSeconds(5));
+    }
+
+    @Test
+    void 다른서버가_잠금중이면_실행안함() {
+        when(lockService.tryLock(eq("test-job"), any())).thenReturn(false);
+        TestJob job = context.getBean(TestJob.class);
+
+        job.run();
+
+        assertEquals(0, job.getRunCount());
+        verify(lockService, never()).unlock(any(), any());
+    }
+
+    @Test
+    void Async와_같이쓰면_작업스레드에서_잠금획득() throws Exception {
+        AtomicReference<String> lockThread = new AtomicReference<>();
+        when(lockService.tryLock(eq("async-test-job"), any())).thenAnswer(invocation -> {
+            lockThread.set(Thread.currentThread().getName());
+            return true;
+        });
+
+        try (AnnotationConfigApplicationContext asyncContext = new AnnotationConfigApplicationContext()) {
+            asyncContext.register(AsyncConfig.class);
+            asyncContext.registerBean(SchedulerLockBeanPostProcessor.class);
+            asyncContext.registerBean(SchedulerLockService.class, () -> lockService);
+            asyncContext.registerBean(AsyncTestJob.class);
+            asyncContext.refresh();
+
+            AsyncTestJob job = asyncContext.getBean(AsyncTestJob.class);
+            job.run();
+
+            assertTrue(job.awaitDone());
+            assertTrue(lockThread.get().startsWith("BatchJob-"));
+        }
+    }
+}